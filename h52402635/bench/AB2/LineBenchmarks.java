@@ -0,0 +1,74 @@
+package AB2;
+
+import Benchmarks.BenchmarkHarness;
+
+/**
+ * Benchmarks of the AB2 classes: encoder, font construction, {@code BrailleLineBuffer} edits and rendering.
+ */
+public class LineBenchmarks {
+    private static final int EDITS = 64;
+
+    private LineBenchmarks() {
+    }
+
+    /**
+     * Runs all AB2 benchmarks with the given harness.
+     *
+     * @param harness the benchmark harness.
+     */
+    public static void run(BenchmarkHarness harness) {
+        BrailleEncoder encoder = new BrailleEncoder();
+        BrailleFont font = new BrailleFont(3, 2, 'o', '.', encoder);
+
+        harness.measure("AB2.BrailleEncoder.toBinary", 26, -1, 26, () -> {
+            long sum = 0;
+            for (char c = 'a'; c <= 'z'; c++) {
+                sum += encoder.toBinary(c);
+            }
+            return sum;
+        });
+
+        harness.measure("AB2.BrailleFont.<init>", 26, -1, 1,
+                () -> new BrailleFont(3, 2, 'o', '.', encoder).getBitmap('z')[0][0]);
+
+        for (int length : harness.lengths()) {
+            harness.measure("AB2.BrailleLineBuffer.push+pop", length, -1, 2L * length, () -> {
+                BrailleLineBuffer buffer = new BrailleLineBuffer(16, 1.5, 0.3);
+                for (int i = 0; i < length; i++) {
+                    buffer.push(font.getBitmap((char) ('a' + i % 26)));
+                }
+                long sum = buffer.size();
+                while (buffer.count() > 0) {
+                    buffer.pop();
+                }
+                return sum + buffer.size();
+            });
+
+            BrailleLineBuffer line = filled(font, length);
+            char[][] bitmap = font.getBitmap('x');
+            harness.measure("AB2.BrailleLineBuffer.insert+delete", length, -1, 2L * EDITS, () -> {
+                int middle = line.count() / 2;
+                for (int i = 0; i < EDITS; i++) {
+                    line.insert(middle, bitmap);
+                }
+                for (int i = 0; i < EDITS; i++) {
+                    line.delete(middle);
+                }
+                return line.size();
+            });
+
+            for (int spacing : harness.spacings()) {
+                harness.measure("AB2.BrailleLineBuffer.renderScanlines", length, spacing, length,
+                        () -> line.renderScanlines(spacing)[0].length());
+            }
+        }
+    }
+
+    private static BrailleLineBuffer filled(BrailleFont font, int length) {
+        BrailleLineBuffer buffer = new BrailleLineBuffer(16, 1.5, 0.3);
+        for (int i = 0; i < length; i++) {
+            buffer.push(font.getBitmap((char) ('a' + i % 26)));
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,50 @@
+package AB2;
+
+/**
+ * Throughput benchmark for {@code BrailleLineBuffer.renderScanlines}.
+ * <p>Renders lines of growing length, both into newly allocated strings and into a reused {@code char[][]},
+ * and prints the time per rendered character. A constant time per character shows that rendering scales
+ * linearly with the number of buffered characters.</p>
+ */
+public class ScanlineRenderBenchmark {
+    private static final int[] COUNTS = {1_000, 2_000, 5_000, 10_000, 20_000, 50_000};
+    private static final int SPACING = 1;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+
+    public static void main(String[] args) {
+        BrailleFont font = new BrailleFont(3, 2, 'o', '.', new BrailleEncoder());
+
+        System.out.printf("%10s %18s %18s%n", "cells", "strings [ns/cell]", "reused [ns/cell]");
+        for (int count : COUNTS) {
+            BrailleLineBuffer buffer = new BrailleLineBuffer(16, 1.5, 0.3);
+            for (int i = 0; i < count; i++) {
+                buffer.push(font.getBitmap((char) ('a' + i % 26)));
+            }
+            char[][] target = new char[buffer.scanlineCount()][buffer.scanlineLength(SPACING)];
+
+            long sink = 0;
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                sink += buffer.renderScanlines(SPACING)[0].length();
+                sink += buffer.renderScanlines(SPACING, target);
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                sink += buffer.renderScanlines(SPACING)[0].length();
+            }
+            long strings = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                sink += buffer.renderScanlines(SPACING, target);
+            }
+            long reused = System.nanoTime() - start;
+
+            System.out.printf("%10d %18.2f %18.2f   (%d)%n", count,
+                    strings / (double) MEASURED_ROUNDS / count,
+                    reused / (double) MEASURED_ROUNDS / count,
+                    sink % 10);
+        }
+    }
+}
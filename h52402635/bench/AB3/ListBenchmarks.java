@@ -0,0 +1,126 @@
+package AB3;
+
+import AB2.PackedBrailleFont;
+import AB3.Provided.BrailleEncoder;
+import AB3.Provided.BrailleFont;
+import AB3.Provided.ListNode;
+import Benchmarks.BenchmarkHarness;
+
+/**
+ * Benchmarks of the AB3 classes: {@code BrailleLinkedList} and {@code BrailleDoublyLinkedList} operations,
+ * {@code BrailleListBuffer} rendering, packed rendering with and without a word cache, decoding and reading.
+ */
+public class ListBenchmarks {
+    private static final int EDITS = 64;
+    private static final String TEXT = "the quick brown fox jumps over the lazy dog and the dog sleeps in the sun ";
+
+    private ListBenchmarks() {
+    }
+
+    /**
+     * Runs all AB3 benchmarks with the given harness.
+     *
+     * @param harness the benchmark harness.
+     */
+    public static void run(BenchmarkHarness harness) {
+        BrailleEncoder encoder = new BrailleEncoder();
+        BrailleFont font = new BrailleFont(3, 2, 'o', '.', encoder);
+        BrailleDecoder treeDecoder = new BrailleDecoder(encoder);
+        BrailleTableDecoder tableDecoder = new BrailleTableDecoder(encoder);
+        char[][][] bitmaps = new char[26][][];
+        for (int i = 0; i < bitmaps.length; i++) {
+            bitmaps[i] = font.getBitmap((char) ('a' + i));
+        }
+
+        harness.measure("AB3.BrailleDecoder.decodeBitmap", 26, -1, 26, () -> {
+            long sum = 0;
+            for (char[][] bitmap : bitmaps) {
+                sum += treeDecoder.decodeBitmap(bitmap, 'o');
+            }
+            return sum;
+        });
+        harness.measure("AB3.BrailleTableDecoder.decodeBitmap", 26, -1, 26, () -> {
+            long sum = 0;
+            for (char[][] bitmap : bitmaps) {
+                sum += tableDecoder.decodeBitmap(bitmap, 'o');
+            }
+            return sum;
+        });
+
+        PackedBrailleFont packedFont = new PackedBrailleFont(3, 2, 'o', '.', encoder::toBinary);
+
+        for (int length : harness.lengths()) {
+            harness.measure("AB3.BrailleLinkedList.addLast+removeLast", length, -1, 2L * length, () -> {
+                BrailleLinkedList list = new BrailleLinkedList();
+                for (int i = 0; i < length; i++) {
+                    list.addLast(new ListNode(bitmaps[i % 26]));
+                }
+                long sum = list.size();
+                while (list.size() > 0) {
+                    list.removeLast();
+                }
+                return sum;
+            });
+            harness.measure("AB3.BrailleDoublyLinkedList.addLast+removeLast", length, -1, 2L * length, () -> {
+                BrailleDoublyLinkedList list = new BrailleDoublyLinkedList();
+                for (int i = 0; i < length; i++) {
+                    list.addLast(new ListNode(bitmaps[i % 26]));
+                }
+                long sum = list.size();
+                while (list.size() > 0) {
+                    list.removeLast();
+                }
+                return sum;
+            });
+
+            BrailleLinkedList list = new BrailleLinkedList();
+            BrailleListBuffer buffer = new BrailleListBuffer(list);
+            for (int i = 0; i < length; i++) {
+                buffer.push(bitmaps[i % 26]);
+            }
+            harness.measure("AB3.BrailleLinkedList.insert+remove", length, -1, 2L * EDITS, () -> {
+                int middle = list.size() / 2;
+                for (int i = 0; i < EDITS; i++) {
+                    list.insert(new ListNode(bitmaps[i % 26]), middle);
+                }
+                for (int i = 0; i < EDITS; i++) {
+                    list.remove(middle);
+                }
+                return list.size();
+            });
+            harness.measure("AB3.BrailleLinkedList.get", length, -1, length, () -> {
+                long sum = 0;
+                for (int i = 0; i < length; i++) {
+                    sum += list.get(i).getBitmap().length;
+                }
+                return sum;
+            });
+
+            PackedBrailleListBuffer packed = new PackedBrailleListBuffer(packedFont);
+            PackedBrailleListBuffer cached = new PackedBrailleListBuffer(packedFont);
+            cached.setWordCache(new WordGlyphCache(16, 4096, 1L << 20));
+            for (int i = 0; i < length; i++) {
+                char[][] bitmap = packedFont.getBitmap(TEXT.charAt(i % TEXT.length()));
+                packed.push(bitmap);
+                cached.push(bitmap);
+            }
+
+            for (int spacing : harness.spacings()) {
+                harness.measure("AB3.BrailleListBuffer.renderScanlines", length, spacing, length,
+                        () -> buffer.renderScanlines(spacing)[0].length());
+                harness.measure("AB3.PackedBrailleListBuffer.renderScanlines", length, spacing, length,
+                        () -> packed.renderScanlines(spacing)[0].length());
+                harness.measure("AB3.PackedBrailleListBuffer.renderScanlines(wordCache)", length, spacing, length,
+                        () -> cached.renderScanlines(spacing)[0].length());
+
+                String[] scanlines = buffer.renderScanlines(spacing);
+                BrailleReader treeReader = new BrailleReader(treeDecoder);
+                BrailleReader tableReader = new BrailleReader(tableDecoder);
+                harness.measure("AB3.BrailleReader.translate(tree)", length, spacing, length,
+                        () -> treeReader.translate(scanlines, 'o', spacing).length());
+                harness.measure("AB3.BrailleReader.translate(table)", length, spacing, length,
+                        () -> tableReader.translate(scanlines, 'o', spacing).length());
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package AB3;
+
+import AB3.Provided.BrailleEncoder;
+import AB3.Provided.BrailleFont;
+
+/**
+ * Benchmark comparing {@code BrailleListBuffer.renderScanlines} against the previous implementation, which
+ * called {@code list.get(j)} for every row and character and was therefore quadratic in the number of characters.
+ * <p>Prints the time per rendered character for both implementations across list sizes.</p>
+ */
+public class ListRenderBenchmark {
+    private static final int[] SIZES = {500, 1_000, 2_000, 5_000, 10_000};
+    private static final int SPACING = 1;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        BrailleFont font = new BrailleFont(3, 2, 'o', '.', new BrailleEncoder());
+
+        System.out.printf("%10s %18s %18s%n", "cells", "get(j) [ns/cell]", "cursor [ns/cell]");
+        for (int size : SIZES) {
+            BrailleLinkedList list = new BrailleLinkedList();
+            BrailleListBuffer buffer = new BrailleListBuffer(list);
+            for (int i = 0; i < size; i++) {
+                buffer.push(font.getBitmap((char) ('a' + i % 26)));
+            }
+
+            long sink = 0;
+            for (int i = 0; i < ROUNDS; i++) {      // warm-up
+                sink += renderByIndex(list, SPACING)[0].length();
+                sink += buffer.renderScanlines(SPACING)[0].length();
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < ROUNDS; i++) {
+                sink += renderByIndex(list, SPACING)[0].length();
+            }
+            long byIndex = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < ROUNDS; i++) {
+                sink += buffer.renderScanlines(SPACING)[0].length();
+            }
+            long byCursor = System.nanoTime() - start;
+
+            System.out.printf("%10d %18.1f %18.1f   (%d)%n", size,
+                    byIndex / (double) ROUNDS / size,
+                    byCursor / (double) ROUNDS / size,
+                    sink % 10);
+        }
+    }
+
+    /**
+     * The previous rendering algorithm of {@code BrailleListBuffer}, kept as baseline.
+     */
+    private static String[] renderByIndex(BrailleLinkedList list, int spacing) {
+        int numberOfLines = list.getFirst().getBitmap().length;
+        StringBuilder sb = new StringBuilder();
+        String[] result = new String[numberOfLines];
+
+        for (int i = 0; i < numberOfLines; i++) {
+            for (int j = 0; j < list.size(); j++) {
+                char[][] bitmap = list.get(j).getBitmap();
+                sb.append(bitmap[i]);
+                if (j < list.size() - 1) {
+                    sb.append(" ".repeat(spacing));
+                }
+            }
+            result[i] = sb.toString();
+            sb.setLength(0);
+        }
+        return result;
+    }
+}
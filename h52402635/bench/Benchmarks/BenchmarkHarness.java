@@ -0,0 +1,206 @@
+package Benchmarks;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+/**
+ * Minimal benchmark harness measuring the time per operation of a workload.
+ *
+ * <p>A workload performs a fixed number of operations per invocation and returns a value, which is consumed by
+ * the harness so that the work cannot be eliminated. Each measurement consists of warm-up iterations followed by
+ * measured iterations. The number of invocations per iteration is calibrated during warm-up, so that an iteration
+ * takes at least the configured target time. Results are printed as a table and can be exported as JSON.</p>
+ *
+ * <p>Options (all optional): {@code --lengths=80,1000,10000 --spacings=0,1 --warmup=5 --iterations=10
+ * --target-ms=20 --filter=<substring of benchmark name> --json=<path>}</p>
+ */
+public class BenchmarkHarness {
+    private int[] lengths = {80, 1_000, 10_000};
+    private int[] spacings = {0, 1};
+    private int warmupIterations = 5;
+    private int measuredIterations = 10;
+    private long targetNanos = 20_000_000L;
+    private String filter = "";
+    private String jsonPath;
+
+    private final ArrayList<Result> results = new ArrayList<>();
+    private long sink;
+
+    /**
+     * Result of a single measurement.
+     */
+    private static final class Result {
+        private final String name;
+        private final int length;
+        private final int spacing;
+        private final long operations;
+        private final double mean;
+        private final double min;
+        private final double max;
+        private final double deviation;
+
+        private Result(String name, int length, int spacing, long operations, double[] samples) {
+            this.name = name;
+            this.length = length;
+            this.spacing = spacing;
+            this.operations = operations;
+
+            double sum = 0, lowest = Double.MAX_VALUE, highest = 0;
+            for (double sample : samples) {
+                sum += sample;
+                lowest = Math.min(lowest, sample);
+                highest = Math.max(highest, sample);
+            }
+            double average = sum / samples.length;
+            double squares = 0;
+            for (double sample : samples) {
+                squares += (sample - average) * (sample - average);
+            }
+            this.mean = average;
+            this.min = lowest;
+            this.max = highest;
+            this.deviation = Math.sqrt(squares / samples.length);
+        }
+    }
+
+    /**
+     * Constructs a harness configured by the given command line options.
+     *
+     * @param args the command line options.
+     */
+    public BenchmarkHarness(String[] args) {
+        for (String arg : args) {
+            int split = arg.indexOf('=');
+            if (!arg.startsWith("--") || split < 0)
+                throw new IllegalArgumentException("Unknown option: " + arg);
+
+            String value = arg.substring(split + 1);
+            switch (arg.substring(2, split)) {
+                case "lengths": lengths = parseInts(value); break;
+                case "spacings": spacings = parseInts(value); break;
+                case "warmup": warmupIterations = Integer.parseInt(value); break;
+                case "iterations": measuredIterations = Integer.parseInt(value); break;
+                case "target-ms": targetNanos = Long.parseLong(value) * 1_000_000L; break;
+                case "filter": filter = value; break;
+                case "json": jsonPath = value; break;
+                default: throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+    }
+
+    private static int[] parseInts(String value) {
+        String[] parts = value.split(",");
+        int[] numbers = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            numbers[i] = Integer.parseInt(parts[i].trim());
+        }
+        return numbers;
+    }
+
+    /**
+     * Returns the line lengths (number of Braille characters) to measure.
+     *
+     * @return the line lengths.
+     */
+    public int[] lengths() {
+        return lengths;
+    }
+
+    /**
+     * Returns the spacings to measure.
+     *
+     * @return the spacings.
+     */
+    public int[] spacings() {
+        return spacings;
+    }
+
+    /**
+     * Measures a workload, unless it is excluded by the filter option.
+     *
+     * @param name       the name of the benchmark.
+     * @param length     the line length the workload operates on.
+     * @param spacing    the spacing the workload uses, or -1 if it does not depend on the spacing.
+     * @param operations the number of operations performed by one invocation of the workload.
+     * @param workload   the workload.
+     */
+    public void measure(String name, int length, int spacing, long operations, LongSupplier workload) {
+        if (!name.contains(filter)) return;
+
+        int invocations = 1;
+        for (int i = 0; i < warmupIterations; i++) {
+            long elapsed = iterate(workload, invocations);
+            while (elapsed < targetNanos && invocations < (1 << 30)) {
+                invocations *= 2;
+                elapsed = iterate(workload, invocations);
+            }
+        }
+
+        double[] samples = new double[measuredIterations];
+        for (int i = 0; i < measuredIterations; i++) {
+            samples[i] = iterate(workload, invocations) / (double) invocations / operations;
+        }
+
+        Result result = new Result(name, length, spacing, operations, samples);
+        results.add(result);
+        System.out.printf(Locale.ROOT, "%-40s %8d %8s %14.2f %10.2f %10.2f%n", name, length,
+                spacing < 0 ? "-" : Integer.toString(spacing), result.mean, result.min, result.deviation);
+    }
+
+    private long iterate(LongSupplier workload, int invocations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < invocations; i++) {
+            sink += workload.getAsLong();
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Prints the header of the result table.
+     */
+    public void printHeader() {
+        System.out.printf(Locale.ROOT, "%-40s %8s %8s %14s %10s %10s%n", "benchmark", "length", "spacing",
+                "mean [ns/op]", "min", "stddev");
+    }
+
+    /**
+     * Writes the results to the file given by the json option, if any.
+     *
+     * @throws IOException if writing the file fails.
+     */
+    public void finish() throws IOException {
+        if (jsonPath != null) {
+            try (Writer writer = Files.newBufferedWriter(Paths.get(jsonPath))) {
+                writeJson(writer);
+            }
+        }
+        if (sink == 42) System.out.println();   // consume the sink
+    }
+
+    /**
+     * Writes the results as a JSON array of objects.
+     *
+     * @param out the sink the JSON document is written to.
+     * @throws IOException if writing to the sink fails.
+     */
+    public void writeJson(Appendable out) throws IOException {
+        out.append("[\n");
+        for (int i = 0; i < results.size(); i++) {
+            Result result = results.get(i);
+            out.append(String.format(Locale.ROOT,
+                    "  {\"benchmark\": \"%s\", \"length\": %d, \"spacing\": %s, \"operations\": %d, "
+                            + "\"iterations\": %d, \"meanNsPerOp\": %.3f, \"minNsPerOp\": %.3f, "
+                            + "\"maxNsPerOp\": %.3f, \"stddevNsPerOp\": %.3f}",
+                    result.name, result.length, result.spacing < 0 ? "null" : Integer.toString(result.spacing),
+                    result.operations, measuredIterations, result.mean, result.min, result.max,
+                    result.deviation));
+            out.append(i < results.size() - 1 ? ",\n" : "\n");
+        }
+        out.append("]\n");
+    }
+}
@@ -0,0 +1,21 @@
+package Benchmarks;
+
+import AB2.LineBenchmarks;
+import AB3.ListBenchmarks;
+
+import java.io.IOException;
+
+/**
+ * Runs all benchmarks (see {@code BenchmarkHarness} for the supported options), e.g.
+ * {@code java Benchmarks.BenchmarkSuite --lengths=80,10000 --spacings=1 --json=results.json}.
+ */
+public class BenchmarkSuite {
+    public static void main(String[] args) throws IOException {
+        BenchmarkHarness harness = new BenchmarkHarness(args);
+
+        harness.printHeader();
+        LineBenchmarks.run(harness);
+        ListBenchmarks.run(harness);
+        harness.finish();
+    }
+}
@@ -2,6 +2,14 @@ package AB1;
 
 import AB1.Interfaces.Font;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+
 /**
  * The LinePrinter class is designed to render Braille text representations to standard output
  * using a line buffer and a customizable font.
@@ -25,6 +33,10 @@ public class LinePrinter {
     // TODO: choose appropriate access modifier (public/private)
     private int cursorPosition;     // position within the lineBuffer where the next braille character will be printed
 
+    private String lineSeparator = System.lineSeparator();  // separator written after each row by flush(Appendable)
+
+    private Charset charset = Charset.defaultCharset();     // charset used by flush(WritableByteChannel)
+
     /**
      * Constructs a LinePrinter for rendering printable Braille text.
      * <p>The lineBuffer is allocated by calling the {@code createLineBuffer()} method.</p>
@@ -135,11 +147,69 @@ public class LinePrinter {
     // TODO: choose appropriate access modifier (public/private)
     public void printString(String string) {
         // TODO: implementation
-        if (string.isEmpty())
-            return;
+        printString((CharSequence) string);
+    }
 
-        printCharacter(string.charAt(0));
-        printString(string.substring(1));
+    /**
+     * Prints a character sequence starting at the cursor's position. The sequence is processed iteratively and
+     * printing stops as soon as the line buffer is full.
+     *
+     * @param text the character sequence to be printed.
+     */
+    public void printString(CharSequence text) {
+        for (int i = 0; i < text.length() && !isLineFull(); i++) {
+            printCharacter(text.charAt(i));
+        }
+    }
+
+    /**
+     * Prints a range of a character array starting at the cursor's position. Printing stops as soon as the
+     * line buffer is full.
+     *
+     * @param characters the characters to be printed.
+     * @param offset     the index of the first character to be printed.
+     * @param length     the number of characters to be printed.
+     */
+    public void printString(char[] characters, int offset, int length) {
+        for (int i = offset; i < offset + length && !isLineFull(); i++) {
+            printCharacter(characters[i]);
+        }
+    }
+
+    /**
+     * Prints all characters provided by a reader starting at the cursor's position. Reading stops as soon as the
+     * line buffer is full. No more characters are read than fit into the line, so the next line can continue with
+     * the same reader. The reader is not closed.
+     *
+     * @param reader the source of the characters to be printed.
+     * @throws IOException if reading from the reader fails.
+     */
+    public void printString(Reader reader) throws IOException {
+        char[] chunk = new char[1024];
+        int read;
+
+        while (!isLineFull() && (read = reader.read(chunk, 0, Math.min(chunk.length, remainingCharacters()))) != -1) {
+            printString(chunk, 0, read);
+        }
+    }
+
+    /**
+     * Computes the number of characters that still fit into the line buffer.
+     *
+     * @return the number of characters that can be printed before the line buffer is full.
+     */
+    private int remainingCharacters() {
+        int step = font.getWidth() + spacing;
+        return (lineBuffer[1].length - cursorPosition + step - 1) / step;
+    }
+
+    /**
+     * Checks whether the cursor has reached the end of the line buffer.
+     *
+     * @return {@code true} if no further character fits into the line buffer.
+     */
+    private boolean isLineFull() {
+        return cursorPosition >= lineBuffer[1].length;
     }
 
     /**
@@ -160,4 +230,62 @@ public class LinePrinter {
 
         clearLine();
     }
+
+    /**
+     * Flushes the content of the line buffer by writing each row, followed by the line separator, to the given
+     * sink, and then clearing the buffer by calling {@code clearLine()}.
+     * <p>Rows are written straight from the line buffer, so no intermediate string is created per row.</p>
+     *
+     * @param out the sink the rows are written to (e.g. a buffered {@code Writer} or a {@code StringBuilder}).
+     *            <p>Precondition: out != null</p>
+     * @throws IOException if writing to the sink fails.
+     */
+    public void flush(Appendable out) throws IOException {
+        for (int i = 0; i < font.getHeight(); i++) {
+            char[] row = getLineBufferRow(i);
+            if (out instanceof Writer) {
+                ((Writer) out).write(row, 0, row.length);
+            } else {
+                out.append(CharBuffer.wrap(row));
+            }
+            out.append(lineSeparator);
+        }
+
+        clearLine();
+    }
+
+    /**
+     * Flushes the content of the line buffer to the given channel, encoded with the printer's charset
+     * (see {@code setCharset()}), and then clears the buffer.
+     * <p>The channel is not closed.</p>
+     *
+     * @param channel the channel the rows are written to.
+     *                <p>Precondition: channel != null</p>
+     * @throws IOException if writing to the channel fails.
+     */
+    public void flush(WritableByteChannel channel) throws IOException {
+        Writer writer = Channels.newWriter(channel, charset.newEncoder(), -1);
+        flush(writer);
+        writer.flush();
+    }
+
+    /**
+     * Sets the separator written after each row by {@code flush(Appendable)} and {@code flush(WritableByteChannel)}.
+     *
+     * @param lineSeparator the line separator, e.g. {@code "\n"}.
+     *                      <p>Precondition: lineSeparator != null</p>
+     */
+    public void setLineSeparator(String lineSeparator) {
+        this.lineSeparator = lineSeparator;
+    }
+
+    /**
+     * Sets the charset used to encode rows written by {@code flush(WritableByteChannel)}.
+     *
+     * @param charset the charset.
+     *                <p>Precondition: charset != null</p>
+     */
+    public void setCharset(Charset charset) {
+        this.charset = charset;
+    }
 }
@@ -0,0 +1,40 @@
+package AB2;
+
+import AB2.Interfaces.CapacityPolicy;
+
+/**
+ * Capacity policy that grows and shrinks a buffer in constant steps.
+ *
+ * <p>The buffer is shrunk by one step only if at least two steps are unused, so that alternating additions and
+ * removals at a step boundary do not resize the buffer each time.</p>
+ */
+public class AdditiveCapacityPolicy implements CapacityPolicy {
+    private final int initialSize;
+    private final int increment;
+
+    /**
+     * Constructs an {@code AdditiveCapacityPolicy} object.
+     *
+     * @param initialSize the size the buffer is never shrunk below.
+     * @param increment   the number of characters the buffer grows or shrinks by.
+     *                    <p>Preconditions: ( increment > 0 )</p>
+     */
+    public AdditiveCapacityPolicy(int initialSize, int increment) {
+        this.initialSize = initialSize;
+        this.increment = increment;
+    }
+
+    @Override
+    public int grow(int size, int required) {
+        if (size >= required) return size;
+
+        return size + (required - size + increment - 1) / increment * increment;
+    }
+
+    @Override
+    public int shrink(int size, int count) {
+        if (size - count < 2 * increment || size - increment < initialSize) return size;
+
+        return size - increment;
+    }
+}
@@ -1,7 +1,19 @@
 package AB2;
 
+import AB2.Interfaces.AdvancedLineBuffer;
 import AB2.Interfaces.Font;
 import AB2.Interfaces.LineBuffer;
+import AB2.Interfaces.LineBufferSnapshot;
+import AB2.Interfaces.SnapshotLineBuffer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
 
 /**
  * The AdvancedLinePrinter class is designed to render Braille text representations to standard output
@@ -12,6 +24,8 @@ import AB2.Interfaces.LineBuffer;
  * <p>The line buffer can also be modified by inserting and deleting characters at specified positions.
  * It can be sent to the system's standard output (console) at any time by calling the {@code flush()} method,
  * which also clears the line buffer.</p>
+ * <p>Optionally, edits of the line buffer are journaled, so that they can be undone and redone. Line buffers
+ * implementing {@code SnapshotLineBuffer} additionally support snapshots in constant time.</p>
  */
 public class AdvancedLinePrinter {
     /*
@@ -28,6 +42,18 @@ public class AdvancedLinePrinter {
     // TODO: your variables go here
     private int spacing;
 
+    private String lineSeparator = System.lineSeparator();  // separator written after each scanline by flush(Appendable)
+    private Charset charset = Charset.defaultCharset();     // charset used by flush(WritableByteChannel)
+    private char[][] scanlines = new char[0][];             // reused rendering target of flush(Appendable)
+
+    private static final int GLYPH_CHUNK = 1024;            // number of glyphs resolved per bulk push
+    private final char[][][] glyphs = new char[GLYPH_CHUNK][][];
+
+    private ScanlineCache renderCache;                      // optional cache used by renderString()
+    private EditJournal journal;                            // edits of the current line, if undo is enabled
+    private char[][][] printed = new char[0][][];           // glyphs appended by the current print call, if journaled
+    private int printedCount;
+
 
     /**
      * Constructs an AdvancedLinePrinter for processing printable Braille text.
@@ -50,6 +76,248 @@ public class AdvancedLinePrinter {
      */
     public void clearLine() {
         lineBuffer.clearBuffer();
+        clearJournal();
+    }
+
+    /**
+     * Enables or disables journaling of edits for {@code undo()} and {@code redo()}. Disabled by default.
+     *
+     * <p>Printing, backspace, insertion and deletion are journaled; each call of these methods forms one step
+     * (e.g. a whole printed string, which is journaled as a single range). Clearing or flushing the line buffer,
+     * or restoring a snapshot, clears the journal. Deleting a character from a line buffer that is not an
+     * {@code AdvancedLineBuffer} clears the journal as well, since the deleted bitmap cannot be retrieved.</p>
+     * <p>At most 100 steps are kept; older steps are discarded (see {@code setUndoEnabled(boolean, int)}).</p>
+     *
+     * @param enabled {@code true} to journal edits, {@code false} to discard the journal and stop journaling.
+     */
+    public void setUndoEnabled(boolean enabled) {
+        setUndoEnabled(enabled, EditJournal.DEFAULT_MAX_GROUPS);
+    }
+
+    /**
+     * Enables or disables journaling of edits for {@code undo()} and {@code redo()}, keeping at most the given
+     * number of steps (see {@code setUndoEnabled(boolean)}).
+     *
+     * @param enabled  {@code true} to journal edits, {@code false} to discard the journal and stop journaling.
+     * @param maxSteps the maximum number of steps that can be undone. If a further step is journaled, the oldest
+     *                 step is discarded.
+     *                 <p>Precondition: ( maxSteps > 0 )</p>
+     */
+    public void setUndoEnabled(boolean enabled, int maxSteps) {
+        journal = enabled ? new EditJournal(maxSteps) : null;
+    }
+
+    /**
+     * Undoes the most recent journaled step.
+     *
+     * @return {@code true} if a step was undone, {@code false} if undo is disabled or there is nothing to undo.
+     */
+    public boolean undo() {
+        return journal != null && journal.undo(lineBuffer);
+    }
+
+    /**
+     * Redoes the most recently undone step.
+     *
+     * @return {@code true} if a step was redone, {@code false} if undo is disabled or there is nothing to redo.
+     */
+    public boolean redo() {
+        return journal != null && journal.redo(lineBuffer);
+    }
+
+    /**
+     * Captures the content of the line buffer in constant time.
+     *
+     * @return a snapshot of the line buffer, or {@code null} if the line buffer is not a
+     * {@code SnapshotLineBuffer}.
+     */
+    public LineBufferSnapshot snapshot() {
+        if (!(lineBuffer instanceof SnapshotLineBuffer)) return null;
+
+        return ((SnapshotLineBuffer) lineBuffer).snapshot();
+    }
+
+    /**
+     * Replaces the content of the line buffer by a snapshot taken with {@code snapshot()}, and clears the journal.
+     *
+     * @param snapshot the snapshot to be restored.
+     * @return {@code true} if the snapshot was restored, {@code false} otherwise.
+     */
+    public boolean restore(LineBufferSnapshot snapshot) {
+        if (!(lineBuffer instanceof SnapshotLineBuffer)) return false;
+        if (!((SnapshotLineBuffer) lineBuffer).restore(snapshot)) return false;
+
+        clearJournal();
+        return true;
+    }
+
+    private void clearJournal() {
+        if (journal != null) journal.clear();
+    }
+
+    /**
+     * Method flushes the content of the line buffer by writing each scanline, followed by the line separator,
+     * to the given sink, and then clearing the buffer.
+     *
+     * <p>If the line buffer is an {@code AdvancedLineBuffer}, scanlines are rendered into memory reused across
+     * flushes and streamed into the sink without creating a string per scanline.</p>
+     *
+     * @param out the sink the scanlines are written to (e.g. a buffered {@code Writer} or a {@code StringBuilder}).
+     *            <p>Precondition: ( out != null )</p>
+     * @throws IOException if writing to the sink fails.
+     */
+    public void flush(Appendable out) throws IOException {
+        if (lineBuffer instanceof AdvancedLineBuffer) {
+            AdvancedLineBuffer buffer = (AdvancedLineBuffer) lineBuffer;
+            int height = buffer.scanlineCount();
+            int length = buffer.scanlineLength(spacing);
+
+            ensureScanlines(height, length);
+            buffer.renderScanlines(spacing, scanlines);
+
+            for (int i = 0; i < height; i++) {
+                if (out instanceof Writer) {
+                    ((Writer) out).write(scanlines[i], 0, length);
+                } else {
+                    out.append(CharBuffer.wrap(scanlines[i], 0, length));
+                }
+                out.append(lineSeparator);
+            }
+        } else {
+            String[] rendering = lineBuffer.renderScanlines(spacing);
+            if (rendering != null) {
+                for (String scanline : rendering) {
+                    out.append(scanline).append(lineSeparator);
+                }
+            }
+        }
+        clearLine();
+    }
+
+    /**
+     * Makes sure the reused rendering target holds at least the given number of scanlines of the given length.
+     * The target grows by at least 50 percent, so it is reallocated only a logarithmic number of times.
+     *
+     * @param height the number of scanlines.
+     * @param length the length of each scanline.
+     */
+    private void ensureScanlines(int height, int length) {
+        int capacity = scanlines.length == 0 ? 0 : scanlines[0].length;
+        if (scanlines.length >= height && capacity >= length) return;
+
+        scanlines = new char[Math.max(height, scanlines.length)][Math.max(length, capacity + capacity / 2)];
+    }
+
+    /**
+     * Method flushes the content of the line buffer to the given channel, encoded with the printer's charset
+     * (see {@code setCharset()}), and then clears the buffer. The channel is not closed.
+     *
+     * @param channel the channel the scanlines are written to.
+     *                <p>Precondition: ( channel != null )</p>
+     * @throws IOException if writing to the channel fails.
+     */
+    public void flush(WritableByteChannel channel) throws IOException {
+        Writer writer = Channels.newWriter(channel, charset.newEncoder(), -1);
+        flush(writer);
+        writer.flush();
+    }
+
+    /**
+     * Sets the separator written after each scanline by {@code flush(Appendable)} and
+     * {@code flush(WritableByteChannel)}.
+     *
+     * @param lineSeparator the line separator, e.g. {@code "\n"}.
+     *                      <p>Precondition: ( lineSeparator != null )</p>
+     */
+    public void setLineSeparator(String lineSeparator) {
+        this.lineSeparator = lineSeparator;
+    }
+
+    /**
+     * Sets the charset used to encode scanlines written by {@code flush(WritableByteChannel)}.
+     *
+     * @param charset the charset.
+     *                <p>Precondition: ( charset != null )</p>
+     */
+    public void setCharset(Charset charset) {
+        this.charset = charset;
+    }
+
+    /**
+     * Sets the cache used by {@code renderString()} and {@code flushString()}. The cache may be shared
+     * between printers.
+     *
+     * @param renderCache the render cache, or {@code null} to disable caching.
+     */
+    public void setRenderCache(ScanlineCache renderCache) {
+        this.renderCache = renderCache;
+    }
+
+    /**
+     * Renders a string into scanlines with the printer's font and spacing, without using the line buffer.
+     *
+     * <p>If a render cache is set (see {@code setRenderCache()}), previously rendered scanlines are returned from
+     * the cache, and newly rendered ones are stored in it.</p>
+     *
+     * @param text the string to be rendered.
+     *             <p>Precondition: ( text != null )</p>
+     * @return an array of strings, where each string represents a scanline of the rendered string.
+     * Returns {@code null} if the string is empty. The array may be shared with the render cache and
+     * must not be modified.
+     */
+    public String[] renderString(String text) {
+        if (text.isEmpty()) return null;
+
+        String[] rendering = renderCache == null ? null : renderCache.get(text, font, spacing);
+        if (rendering == null) {
+            rendering = render(text);
+            if (renderCache != null)
+                renderCache.put(text, font, spacing, rendering);
+        }
+        return rendering;
+    }
+
+    /**
+     * Writes the scanlines of a string (see {@code renderString()}), each followed by the line separator,
+     * to the given sink. The line buffer is neither used nor cleared.
+     *
+     * @param text the string to be written.
+     *             <p>Precondition: ( text != null )</p>
+     * @param out  the sink the scanlines are written to.
+     *             <p>Precondition: ( out != null )</p>
+     * @throws IOException if writing to the sink fails.
+     */
+    public void flushString(String text, Appendable out) throws IOException {
+        String[] rendering = renderString(text);
+        if (rendering == null) return;
+
+        for (String scanline : rendering) {
+            out.append(scanline).append(lineSeparator);
+        }
+    }
+
+    /**
+     * Renders a non-empty string by copying the rows of each character's bitmap into the scanlines.
+     */
+    private String[] render(String text) {
+        int height = font.getHeight();
+        int width = font.getWidth();
+        char[][] rows = new char[height][text.length() * (width + spacing) - spacing];
+
+        for (int j = 0, column = 0; j < text.length(); j++, column += width + spacing) {
+            char[][] bitmap = font.getBitmap(text.charAt(j));
+            for (int i = 0; i < height; i++) {
+                System.arraycopy(bitmap[i], 0, rows[i], column, width);
+                if (j < text.length() - 1)
+                    Arrays.fill(rows[i], column + width, column + width + spacing, ' ');
+            }
+        }
+
+        String[] result = new String[height];
+        for (int i = 0; i < height; i++) {
+            result[i] = new String(rows[i]);
+        }
+        return result;
     }
 
     /**
@@ -64,6 +332,11 @@ public class AdvancedLinePrinter {
     public void printCharacter(char character) {
         char[][] brailleChar = font.getBitmap(character);
         lineBuffer.push(brailleChar);
+
+        if (journal != null) {
+            journal.beginGroup();
+            journal.record(EditJournal.PUSH, 0, brailleChar);
+        }
     }
 
     /**
@@ -79,7 +352,12 @@ public class AdvancedLinePrinter {
     public void printBackSpace() {
         if (lineBuffer.count() == 0) return;
 
-        lineBuffer.pop();
+        char[][] bitmap = lineBuffer.pop();
+
+        if (journal != null) {
+            journal.beginGroup();
+            journal.record(EditJournal.POP, 0, bitmap);
+        }
     }
 
     /**
@@ -88,11 +366,136 @@ public class AdvancedLinePrinter {
      * @param string the string to be printed.
      */
     public void printString(String string) {
-        if (string.isEmpty()) return;
+        printString((CharSequence) string);
+    }
 
-        printCharacter(string.charAt(0));
+    /**
+     * Method appends a character sequence to the line buffer.
+     *
+     * <p>The sequence is processed iteratively: glyphs are resolved in chunks and appended with
+     * {@code AdvancedLineBuffer.pushAll()}, after the buffer has reserved capacity for the whole sequence once.
+     * Other line buffers receive the glyphs one by one via {@code push()}.</p>
+     *
+     * @param text the character sequence to be printed.
+     *             <p>Precondition: ( text != null )</p>
+     */
+    public void printString(CharSequence text) {
+        int length = text.length();
+        int position = lineBuffer.count();
+        reserve(length);
 
-        printString(string.substring(1));
+        for (int start = 0; start < length; start += GLYPH_CHUNK) {
+            int end = Math.min(length, start + GLYPH_CHUNK);
+            for (int i = start; i < end; i++) {
+                glyphs[i - start] = font.getBitmap(text.charAt(i));
+            }
+            pushGlyphs(end - start);
+        }
+        journalPrinted(position);
+    }
+
+    /**
+     * Method appends a range of a character array to the line buffer (see {@code printString(CharSequence)}).
+     *
+     * @param characters the characters to be printed.
+     *                   <p>Precondition: ( characters != null )</p>
+     * @param offset     the index of the first character to be printed.
+     * @param length     the number of characters to be printed.
+     */
+    public void printString(char[] characters, int offset, int length) {
+        int position = lineBuffer.count();
+        reserve(length);
+        appendCharacters(characters, offset, length);
+        journalPrinted(position);
+    }
+
+    /**
+     * Method appends all characters provided by a reader to the line buffer. The reader is read in chunks
+     * and is not closed. All characters read form a single undo step.
+     *
+     * @param reader the source of the characters to be printed.
+     *               <p>Precondition: ( reader != null )</p>
+     * @throws IOException if reading from the reader fails.
+     */
+    public void printString(Reader reader) throws IOException {
+        char[] chunk = new char[GLYPH_CHUNK];
+        int position = lineBuffer.count();
+        int read;
+
+        while ((read = reader.read(chunk, 0, chunk.length)) != -1) {
+            reserve(read);
+            appendCharacters(chunk, 0, read);
+        }
+        journalPrinted(position);
+    }
+
+    /**
+     * Resolves the glyphs of a range of characters and appends them to the line buffer, without starting
+     * an undo step.
+     *
+     * @param characters the characters to be appended.
+     * @param offset     the index of the first character to be appended.
+     * @param length     the number of characters to be appended.
+     */
+    private void appendCharacters(char[] characters, int offset, int length) {
+        for (int start = 0; start < length; start += GLYPH_CHUNK) {
+            int end = Math.min(length, start + GLYPH_CHUNK);
+            for (int i = start; i < end; i++) {
+                glyphs[i - start] = font.getBitmap(characters[offset + i]);
+            }
+            pushGlyphs(end - start);
+        }
+    }
+
+    /**
+     * Reserves capacity for the given number of additional characters, if the line buffer supports it.
+     *
+     * @param length the number of characters about to be appended.
+     */
+    private void reserve(int length) {
+        if (lineBuffer instanceof AdvancedLineBuffer) {
+            ((AdvancedLineBuffer) lineBuffer).ensureCapacity(lineBuffer.count() + length);
+        }
+    }
+
+    /**
+     * Appends the first {@code length} resolved glyphs to the line buffer.
+     *
+     * @param length the number of glyphs to be appended.
+     */
+    private void pushGlyphs(int length) {
+        if (journal != null) {
+            if (printedCount + length > printed.length)
+                printed = Arrays.copyOf(printed, Math.max(printedCount + length, printed.length * 2));
+            System.arraycopy(glyphs, 0, printed, printedCount, length);
+            printedCount += length;
+        }
+
+        if (lineBuffer instanceof AdvancedLineBuffer) {
+            ((AdvancedLineBuffer) lineBuffer).pushAll(glyphs, 0, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                lineBuffer.push(glyphs[i]);
+            }
+        }
+    }
+
+    /**
+     * Journals the glyphs appended by the current print call as one {@code INSERT_RANGE} step, which is undone
+     * with a single range deletion.
+     *
+     * @param position the number of characters in the line buffer before the print call.
+     */
+    private void journalPrinted(int position) {
+        if (journal == null || printedCount == 0) return;
+
+        journal.beginGroup();
+        journal.recordRange(EditJournal.INSERT_RANGE, position, Arrays.copyOf(printed, printedCount));
+        if (printed.length > GLYPH_CHUNK)
+            printed = new char[0][][];
+        else
+            Arrays.fill(printed, 0, printedCount, null);
+        printedCount = 0;
     }
 
     /**
@@ -105,7 +508,7 @@ public class AdvancedLinePrinter {
         for (int i = 0; i < rendering.length; i++) {
             System.out.println(rendering[i]);
         }
-        lineBuffer.clearBuffer();
+        clearLine();
     }
 
 
@@ -121,7 +524,12 @@ public class AdvancedLinePrinter {
      */
     public void insertCharacter(int position, char character) {
         char[][] bitmap = font.getBitmap(character);
-        lineBuffer.insert(position, bitmap);
+        boolean inserted = lineBuffer.insert(position, bitmap);
+
+        if (inserted && journal != null) {
+            journal.beginGroup();
+            journal.record(EditJournal.INSERT, position, bitmap);
+        }
     }
 
     /**
@@ -132,7 +540,103 @@ public class AdvancedLinePrinter {
      *                 An invalid position must be handled by the buffer.
      */
     public void deleteCharacter(int position) {
-        lineBuffer.delete(position);
+        if (journal == null) {
+            lineBuffer.delete(position);
+            return;
+        }
+
+        char[][] bitmap = null;
+        if (lineBuffer instanceof AdvancedLineBuffer)
+            bitmap = ((AdvancedLineBuffer) lineBuffer).get(position);
+        boolean deleted = lineBuffer.delete(position);
+
+        if (deleted && bitmap != null) {
+            journal.beginGroup();
+            journal.record(EditJournal.DELETE, position, bitmap);
+        } else if (deleted) {
+            journal.clear();
+        }
+    }
+
+    /**
+     * Inserts a character sequence into the line buffer, so that its first character ends up at the specified
+     * position ( {@code position == count()} appends the sequence).
+     *
+     * <p>An {@code AdvancedLineBuffer} receives all glyphs with a single {@code insertAll()}, which shifts the
+     * characters after the position and adjusts the capacity only once. Other line buffers receive the glyphs
+     * one by one.</p>
+     *
+     * @param position the index in the line buffer where the first character should be inserted.
+     *                 If the position is invalid (negative or greater than the number of characters),
+     *                 no insertion is performed.
+     * @param text     the character sequence to be inserted.
+     *                 <p>Precondition: ( text != null )</p>
+     */
+    public void insertString(int position, CharSequence text) {
+        int length = text.length();
+        if (position < 0 || position > lineBuffer.count() || length == 0) return;
+
+        // the journal keeps a reference to the glyphs, so they must not be resolved into the shared chunk
+        char[][][] bitmaps = length <= GLYPH_CHUNK && journal == null ? glyphs : new char[length][][];
+        for (int i = 0; i < length; i++) {
+            bitmaps[i] = font.getBitmap(text.charAt(i));
+        }
+
+        if (lineBuffer instanceof AdvancedLineBuffer) {
+            ((AdvancedLineBuffer) lineBuffer).insertAll(position, bitmaps, 0, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                if (position + i == lineBuffer.count())
+                    lineBuffer.push(bitmaps[i]);
+                else
+                    lineBuffer.insert(position + i, bitmaps[i]);
+            }
+        }
+
+        if (journal != null) {
+            journal.beginGroup();
+            journal.recordRange(EditJournal.INSERT_RANGE, position, bitmaps);
+        }
+    }
+
+    /**
+     * Deletes the Braille characters in the range {@code [from, to)} from the line buffer.
+     * The characters following the range are shifted to the left to fill the gap.
+     *
+     * <p>An {@code AdvancedLineBuffer} deletes the range with a single {@code deleteRange()}, which shifts the
+     * remaining characters and reduces the buffer only once. Other line buffers delete the characters one by one.</p>
+     *
+     * @param from the index of the first character to be deleted.
+     * @param to   the index after the last character to be deleted.
+     *             If the range is invalid ( {@code from < 0}, {@code to > count()} or {@code from > to} ),
+     *             no deletion is performed.
+     */
+    public void deleteRange(int from, int to) {
+        if (from < 0 || to > lineBuffer.count() || from >= to) return;
+
+        if (!(lineBuffer instanceof AdvancedLineBuffer)) {
+            for (int i = from; i < to; i++) {
+                lineBuffer.delete(from);
+            }
+            clearJournal();
+            return;
+        }
+
+        AdvancedLineBuffer buffer = (AdvancedLineBuffer) lineBuffer;
+        char[][][] removed = null;
+        if (journal != null) {
+            removed = new char[to - from][][];
+            for (int i = from; i < to; i++) {
+                removed[i - from] = buffer.get(i);
+            }
+        }
+
+        buffer.deleteRange(from, to);
+
+        if (journal != null) {
+            journal.beginGroup();
+            journal.recordRange(EditJournal.DELETE_RANGE, from, removed);
+        }
     }
 
     /**
@@ -0,0 +1,75 @@
+package AB2;
+
+/**
+ * The {@code BrailleCell} class provides helpers for the packed representation of a Braille cell.
+ *
+ * <p>A packed cell stores a whole Braille character in a single {@code byte}, using the same bit layout as
+ * {@code BrailleEncoder.toBinary}: the dot at {@code (row, column)} of a bitmap with {@code height} rows is mapped
+ * to bit {@code column * height + row}. A packed cell can therefore hold bitmaps of up to 8 dots, which covers the
+ * 2x3 Braille matrix.</p>
+ * <p>Packed cells are expanded to dot and space symbols only when they are rendered.</p>
+ */
+public final class BrailleCell {
+    /**
+     * Maximum number of dots a packed cell can hold.
+     */
+    public static final int MAX_DOTS = 8;
+
+    private BrailleCell() {
+    }
+
+    /**
+     * Packs a bitmap ({@code char[][]}) into its binary representation.
+     *
+     * @param bitmap    the bitmap of a Braille character.
+     *                  <p>Precondition: ( bitmap != null ) && ( bitmap.length * bitmap[0].length <= MAX_DOTS )</p>
+     * @param dotSymbol the character used to represent a filled cell (dot) within the bitmap.
+     * @return the packed cell, where each set bit denotes a dot within the bitmap.
+     */
+    public static byte pack(char[][] bitmap, char dotSymbol) {
+        int height = bitmap.length;
+        int cell = 0;
+
+        for (int row = 0; row < height; row++) {
+            for (int column = 0; column < bitmap[row].length; column++) {
+                if (bitmap[row][column] == dotSymbol)
+                    cell |= 1 << (column * height + row);
+            }
+        }
+        return (byte) cell;
+    }
+
+    /**
+     * Checks whether the dot at the given position of a packed cell is set.
+     *
+     * @param cell   the packed cell.
+     * @param row    the zero-based row of the dot.
+     * @param column the zero-based column of the dot.
+     * @param height the number of rows of the cell's bitmap.
+     * @return {@code true} if the dot is set, {@code false} otherwise.
+     */
+    public static boolean isDot(byte cell, int row, int column, int height) {
+        return (cell & (1 << (column * height + row))) != 0;
+    }
+
+    /**
+     * Expands a packed cell into a newly allocated bitmap ({@code char[][]}).
+     *
+     * @param cell        the packed cell.
+     * @param height      number of rows of the resulting bitmap.
+     * @param width       number of columns of the resulting bitmap.
+     * @param dotSymbol   the character used to represent a filled cell (dot).
+     * @param spaceSymbol the character used to represent an empty cell (space).
+     * @return the bitmap of the packed cell.
+     */
+    public static char[][] expand(byte cell, int height, int width, char dotSymbol, char spaceSymbol) {
+        char[][] bitmap = new char[height][width];
+
+        for (int row = 0; row < height; row++) {
+            for (int column = 0; column < width; column++) {
+                bitmap[row][column] = isDot(cell, row, column, height) ? dotSymbol : spaceSymbol;
+            }
+        }
+        return bitmap;
+    }
+}
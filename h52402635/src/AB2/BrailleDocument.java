@@ -0,0 +1,154 @@
+package AB2;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The {@code BrailleDocument} class provides page-level random access to a Braille rendering of a text.
+ *
+ * <p>The text is wrapped greedily into rows of a fixed number of Braille characters by {@code RowBreaker}, which
+ * also serves {@code ParagraphLayout}, and the rows are grouped into pages of a fixed number of rows. At
+ * construction time, only the row breaks are computed (no rendering), and the text offset at which each page
+ * starts is recorded. A page is rendered on demand, starting at its recorded offset, and the most recently used
+ * pages are cached (see {@code LruCache}).</p>
+ */
+public class BrailleDocument {
+    private final CharSequence text;
+    private final AdvancedLinePrinter printer;
+    private final int width;
+    private final int rowsPerPage;
+
+    private int[] pageOffsets = new int[16];  // text offset of the first row of each page
+    private int pageCount;
+
+    private final LruCache<Integer, String[]> pageCache;
+
+    /**
+     * Constructs a {@code BrailleDocument} object and indexes its pages.
+     *
+     * @param text        the text of the document, which must not change afterwards.
+     *                    <p>Precondition: ( text != null )</p>
+     * @param printer     the printer used to render rows (see {@code AdvancedLinePrinter.renderString()}).
+     *                    <p>Precondition: ( printer != null )</p>
+     * @param width       the number of Braille characters per row.
+     *                    <p>Precondition: ( width > 0 )</p>
+     * @param rowsPerPage the number of rows per page.
+     *                    <p>Precondition: ( rowsPerPage > 0 )</p>
+     * @param cachedPages the maximum number of rendered pages kept in memory.
+     *                    <p>Precondition: ( cachedPages >= 0 )</p>
+     */
+    public BrailleDocument(CharSequence text, AdvancedLinePrinter printer, int width, int rowsPerPage,
+                           int cachedPages) {
+        this.text = text;
+        this.printer = printer;
+        this.width = width;
+        this.rowsPerPage = rowsPerPage;
+        this.pageCache = new LruCache<>(cachedPages);
+
+        StringBuilder row = new StringBuilder(width);
+        int rows = 0;
+        int offset = 0;
+        while (true) {
+            int start = offset;
+            row.setLength(0);
+            offset = RowBreaker.nextRow(text, offset, width, row);
+            if (row.length() == 0) break;
+
+            if (rows++ % rowsPerPage == 0) {
+                if (pageCount == pageOffsets.length)
+                    pageOffsets = Arrays.copyOf(pageOffsets, pageCount * 2);
+                pageOffsets[pageCount++] = start;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of pages of the document.
+     *
+     * @return the number of pages.
+     */
+    public int pageCount() {
+        return pageCount;
+    }
+
+    /**
+     * Retrieves the scanlines of a page: the scanlines of all of its rows, one row after another.
+     *
+     * <p>The returned array is shared with the page cache and must not be modified.</p>
+     *
+     * @param page the zero-based number of the page.
+     * @return the scanlines of the page, or {@code null} if the page number is invalid.
+     */
+    public String[] getPage(int page) {
+        if (page < 0 || page >= pageCount) return null;
+
+        String[] scanlines = pageCache.get(page);
+        if (scanlines != null) return scanlines;
+
+        scanlines = renderPage(page);
+        pageCache.put(page, scanlines);
+        return scanlines;
+    }
+
+    /**
+     * Writes the scanlines of a page, each followed by the given line separator, to the given sink.
+     *
+     * @param page          the zero-based number of the page.
+     * @param out           the sink the scanlines are written to.
+     *                      <p>Precondition: ( out != null )</p>
+     * @param lineSeparator the separator written after each scanline.
+     *                      <p>Precondition: ( lineSeparator != null )</p>
+     * @return {@code true} if the page was written, {@code false} if the page number is invalid.
+     * @throws IOException if writing to the sink fails.
+     */
+    public boolean writePage(int page, Appendable out, String lineSeparator) throws IOException {
+        String[] scanlines = getPage(page);
+        if (scanlines == null) return false;
+
+        for (String scanline : scanlines) {
+            out.append(scanline).append(lineSeparator);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of page lookups served from the page cache.
+     *
+     * @return the number of cache hits.
+     */
+    public long getHitCount() {
+        return pageCache.getHitCount();
+    }
+
+    /**
+     * Returns the number of page lookups that required rendering.
+     *
+     * @return the number of cache misses.
+     */
+    public long getMissCount() {
+        return pageCache.getMissCount();
+    }
+
+    private String[] renderPage(int page) {
+        StringBuilder row = new StringBuilder(width);
+        String[][] rows = new String[rowsPerPage][];
+        int count = 0;
+        int total = 0;
+
+        for (int offset = pageOffsets[page]; count < rowsPerPage; count++) {
+            row.setLength(0);
+            offset = RowBreaker.nextRow(text, offset, width, row);
+            if (row.length() == 0) break;
+
+            rows[count] = printer.renderString(row.toString());
+            total += rows[count].length;
+        }
+
+        String[] scanlines = new String[total];
+        for (int i = 0, position = 0; i < count; i++) {
+            System.arraycopy(rows[i], 0, scanlines, position, rows[i].length);
+            position += rows[i].length;
+        }
+        return scanlines;
+    }
+}
@@ -1,6 +1,10 @@
 package AB2;
 
-import AB2.Interfaces.LineBuffer;
+import AB2.Interfaces.AdvancedLineBuffer;
+import AB2.Interfaces.CapacityPolicy;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
 
 /**
  * The {@code BrailleLineBuffer} class implements an abstract data type for handling printable representation of
@@ -13,16 +17,22 @@ import AB2.Interfaces.LineBuffer;
  *
  * <p>The buffer is initialized with a start size, but can grow while adding and shrink while deleting characters.
  * It can not grow while deleting, and shrink wile adding characters.</p>
+ * <p>How the buffer grows and shrinks is decided by a {@code CapacityPolicy}. The number of reallocations and of
+ * characters copied by them are counted. Optionally, replaced arrays are recycled through a
+ * {@code BufferArrayPool}.</p>
  */
-public class BrailleLineBuffer implements LineBuffer {
+public class BrailleLineBuffer implements AdvancedLineBuffer {
     private char[][][] buffer; // array of 2-dimensional matrices (bitmaps) representing the text line (DO NOT CHANGE)
 
     // TODO: your variables go here
     private final int initialSize;
-    private final double growthFactor;
-    private final double reductionRatio;
+    private final CapacityPolicy capacityPolicy;
+    private final BufferArrayPool arrayPool;    // may be null
     private int count;
 
+    private long reallocations;  // number of times the buffer was replaced by one of another size
+    private long copiedCells;    // number of characters copied by these reallocations
+
     /**
      * Constructs a {@code BrailleLineBuffer} object.
      *
@@ -35,11 +45,36 @@ public class BrailleLineBuffer implements LineBuffer {
      *                       <p>Preconditions: ( reductionRatio < 1 ) </p>
      */
     public BrailleLineBuffer(int initialSize, double growthFactor, double reductionRatio) {
+        this(initialSize, new GeometricCapacityPolicy(initialSize, growthFactor, reductionRatio));
+    }
+
+    /**
+     * Constructs a {@code BrailleLineBuffer} object, which grows and shrinks as decided by the given policy.
+     *
+     * @param initialSize    the initial size of the buffer.
+     * @param capacityPolicy the policy computing new buffer sizes. It must not be shared with other buffers.
+     *                       <p>Preconditions: ( capacityPolicy != null )</p>
+     */
+    public BrailleLineBuffer(int initialSize, CapacityPolicy capacityPolicy) {
+        this(initialSize, capacityPolicy, null);
+    }
+
+    /**
+     * Constructs a {@code BrailleLineBuffer} object, which grows and shrinks as decided by the given policy and
+     * borrows its arrays from the given pool. Arrays replaced by expansion, reduction or clearing are returned
+     * to the pool.
+     *
+     * @param initialSize    the initial size of the buffer.
+     * @param capacityPolicy the policy computing new buffer sizes. It must not be shared with other buffers.
+     *                       <p>Preconditions: ( capacityPolicy != null )</p>
+     * @param arrayPool      the pool used to recycle arrays, or {@code null} to always allocate new arrays.
+     */
+    public BrailleLineBuffer(int initialSize, CapacityPolicy capacityPolicy, BufferArrayPool arrayPool) {
         this.initialSize = initialSize;
-        this.growthFactor = growthFactor;
-        this.reductionRatio = reductionRatio;
+        this.capacityPolicy = capacityPolicy;
+        this.arrayPool = arrayPool;
 
-        buffer = new char[initialSize][][];
+        buffer = allocate(initialSize);
     }
 
     /**
@@ -68,7 +103,8 @@ public class BrailleLineBuffer implements LineBuffer {
      * of the object.
      *
      * <p>Increasing the buffer preserves the existing Braille characters and ensures that their order remains unchanged.
-     * The new buffer size is computed as: {@code newSize = (int)Math.ceil(currentSize * growthFactor)}</p>
+     * The new buffer size is computed by the capacity policy, by default as:
+     * {@code newSize = (int)Math.ceil(currentSize * growthFactor)}</p>
      *
      * <p>Preconditions:<br>
      * 1. {@code growthFactor > 1}, as guaranteed by the constructor.</p>
@@ -80,13 +116,21 @@ public class BrailleLineBuffer implements LineBuffer {
     public void expandBuffer() {
         if (buffer.length > count) return;
 
-        int newSize = (int) Math.ceil(size() * growthFactor);
-        newSize = Math.max(newSize, this.size() + 1);
+        resize(capacityPolicy.grow(size(), count + 1));
+    }
 
-        char[][][] newBuffer = new char[newSize][][];
+    /**
+     * Method expands the internal buffer, so that it can store at least the given number of characters without
+     * further expansion. The size grows as decided by the capacity policy, just as if the characters were pushed
+     * one by one, but the content is copied only once.
+     *
+     * @param capacity the number of characters the buffer must be able to store.
+     */
+    @Override
+    public void ensureCapacity(int capacity) {
+        if (buffer.length >= capacity) return;
 
-        System.arraycopy(buffer, 0, newBuffer, 0, count);
-        buffer = newBuffer;
+        resize(capacityPolicy.grow(size(), capacity));
     }
 
     /**
@@ -94,9 +138,9 @@ public class BrailleLineBuffer implements LineBuffer {
      *
      * <p>Reduction is only done, if the buffer's actual usage ratio is lower than the predefined value,
      * specified at construction time.</p>
-     * <p>The new size of the buffer is computed as {@code newSize = Math.ceil(count() * growthFactor)}.
-     * The method ensures that the buffer's capacity remains greater than or equal to the initial size
-     * defined at time of object construction.</p>
+     * <p>The new size of the buffer is computed by the capacity policy, by default as
+     * {@code newSize = Math.ceil(count() * growthFactor)}. The default policy ensures that the buffer's capacity
+     * remains greater than or equal to the initial size defined at time of object construction.</p>
      *
      * <p>Preconditions:<br>
      * 1. The actual usage ratio (actual number of characters stored in buffer divided by buffer size) is equal or lower
@@ -109,15 +153,51 @@ public class BrailleLineBuffer implements LineBuffer {
      */
     @Override
     public void reduceBuffer() {
-        if (count / (double) size() >= reductionRatio) return;
-
-        int newSize = (int) Math.ceil(count * growthFactor);
+        int newSize = capacityPolicy.shrink(size(), count);
 
-        if (newSize <= initialSize) return;
+        if (newSize != size()) resize(newSize);
+    }
 
-        char[][][] newBuffer = new char[newSize][][];
+    /**
+     * Replaces the internal buffer by one of the given size, preserving the stored characters.
+     *
+     * @param newSize the new size of the buffer.
+     *                <p>Precondition: ( newSize >= count )</p>
+     */
+    private void resize(int newSize) {
+        char[][][] newBuffer = allocate(newSize);
         System.arraycopy(buffer, 0, newBuffer, 0, count);
+        recycle(buffer);
         buffer = newBuffer;
+
+        reallocations++;
+        copiedCells += count;
+    }
+
+    private char[][][] allocate(int size) {
+        return arrayPool == null ? new char[size][][] : arrayPool.acquire(size);
+    }
+
+    private void recycle(char[][][] array) {
+        if (arrayPool != null) arrayPool.release(array);
+    }
+
+    /**
+     * Returns the number of times the internal buffer has been replaced by one of another size.
+     *
+     * @return the number of reallocations since construction.
+     */
+    public long getReallocationCount() {
+        return reallocations;
+    }
+
+    /**
+     * Returns the number of characters copied by reallocations of the internal buffer.
+     *
+     * @return the number of copied characters (references to bitmaps) since construction.
+     */
+    public long getCopiedCellCount() {
+        return copiedCells;
     }
 
     /**
@@ -137,6 +217,22 @@ public class BrailleLineBuffer implements LineBuffer {
         count++;
     }
 
+    /**
+     * Method pushes (appends) a range of bitmaps to the end of the internal buffer, expanding it at most once.
+     *
+     * @param bitmaps the bitmap representations of Braille characters to be appended to the buffer.
+     *                Precondition: ( bitmaps != null ) and no bitmap within the range is {@code null}
+     * @param offset  the index of the first bitmap within {@code bitmaps} to be appended.
+     * @param length  the number of bitmaps to be appended.
+     */
+    @Override
+    public void pushAll(char[][][] bitmaps, int offset, int length) {
+        ensureCapacity(count + length);
+
+        System.arraycopy(bitmaps, offset, buffer, count, length);
+        count += length;
+    }
+
     /**
      * Method retrieves the last bitmap of a Braille character from the internal buffer. If the buffer is empty,
      * {@code null} is returned instead. If a bitmap was found, it is removed from the buffer and the buffer might be shrunk.
@@ -156,6 +252,19 @@ public class BrailleLineBuffer implements LineBuffer {
         return resultBitmap;
     }
 
+    /**
+     * Method retrieves the bitmap of the Braille character at the specified position without removing it.
+     *
+     * @param position the index of the character.
+     * @return the bitmap at the specified position, or {@code null} if the position is invalid.
+     */
+    @Override
+    public char[][] get(int position) {
+        if (position < 0 || position >= count) return null;
+
+        return buffer[position];
+    }
+
     /**
      * Method inserts a bitmap representation of a Braille character into the internal buffer at specified position by
      * shifting all existing characters at and right of the specified position to the right (next index).
@@ -184,6 +293,65 @@ public class BrailleLineBuffer implements LineBuffer {
         return true;
     }
 
+    /**
+     * Method inserts a range of bitmaps at the specified position. If the buffer has to grow, the characters before
+     * the position, the inserted bitmaps and the characters after the position are copied into the new buffer
+     * directly, so every character is moved only once.
+     *
+     * @param position the index at which the first bitmap has to be inserted ( {@code position == count()} appends).
+     * @param bitmaps  the bitmap representations of Braille characters to be inserted.
+     *                 Precondition: ( bitmaps != null ) and no bitmap within the range is {@code null}
+     * @param offset   the index of the first bitmap within {@code bitmaps} to be inserted.
+     * @param length   the number of bitmaps to be inserted.
+     * @return {@code true} if the bitmaps were inserted, {@code false} if the position is invalid.
+     */
+    @Override
+    public boolean insertAll(int position, char[][][] bitmaps, int offset, int length) {
+        if (position > count || position < 0)
+            return false;
+
+        int tail = count - position;
+
+        if (buffer.length < count + length) {
+            char[][][] newBuffer = allocate(capacityPolicy.grow(size(), count + length));
+            System.arraycopy(buffer, 0, newBuffer, 0, position);
+            System.arraycopy(buffer, position, newBuffer, position + length, tail);
+            recycle(buffer);
+            buffer = newBuffer;
+
+            reallocations++;
+            copiedCells += count;
+        } else {
+            System.arraycopy(buffer, position, buffer, position + length, tail);
+        }
+
+        System.arraycopy(bitmaps, offset, buffer, position, length);
+        count += length;
+        return true;
+    }
+
+    /**
+     * Method deletes the characters in the range {@code [from, to)}. The characters after the range are shifted
+     * to the left once and the buffer is reduced at most once afterwards.
+     *
+     * @param from the index of the first character to be deleted.
+     * @param to   the index after the last character to be deleted.
+     * @return {@code true} if the range was deleted, {@code false} if it is invalid.
+     */
+    @Override
+    public boolean deleteRange(int from, int to) {
+        if (from < 0 || to > count || from > to)
+            return false;
+        if (from == to) return true;
+
+        System.arraycopy(buffer, to, buffer, from, count - to);
+        Arrays.fill(buffer, count - (to - from), count, null);
+
+        count -= to - from;
+        reduceBuffer();
+        return true;
+    }
+
     /**
      * Method deletes a Braille character at the specified position in the buffer.
      * Shifts the characters located after the specified position one step to the left.
@@ -211,11 +379,17 @@ public class BrailleLineBuffer implements LineBuffer {
     /**
      * Method clears the content of the buffer.
      * <p>The buffer is reinitialized with its initial size, while the count of currently stored characters
-     * is reset to zero.</p>
+     * is reset to zero. A buffer that already has its initial size is cleared in place, so that clearing
+     * after each printed line does not allocate.</p>
      */
     @Override
     public void clearBuffer() {
-        buffer = new char[initialSize][][];
+        if (buffer.length == initialSize) {
+            Arrays.fill(buffer, null);
+        } else {
+            recycle(buffer);
+            buffer = allocate(initialSize);
+        }
         count = 0;
     }
 
@@ -223,6 +397,9 @@ public class BrailleLineBuffer implements LineBuffer {
      * Renders the contents of the buffer into an array of strings, each representing a scanline.
      * Characters in the buffer are aligned horizontally with spacing between them.
      *
+     * <p>The scanlines are sized once and filled by {@code renderScanlines(int, char[][])}, so rendering is linear
+     * in the number of buffered characters.</p>
+     *
      * @param spacing the number of spaces (ASCII code 32) to insert between consecutive characters from the buffer
      *                in the rendered output.
      *                Precondition: (spacing >= 0)
@@ -231,24 +408,97 @@ public class BrailleLineBuffer implements LineBuffer {
      */
     @Override
     public String[] renderScanlines(int spacing) {
-        String[] result = new String[buffer[0].length];
+        int height = scanlineCount();
+        if (height == 0) return null;
 
-        for (int i = 0; i < result.length; i++) {
-            result[i] = ""; //deleting null values
+        char[][] rows = new char[height][scanlineLength(spacing)];
+        renderScanlines(spacing, rows);
+
+        String[] result = new String[height];
+        for (int i = 0; i < height; i++) {
+            result[i] = new String(rows[i]);
         }
+        return result;
+    }
 
-        String space = " ".repeat(spacing);
+    /**
+     * Method retrieves the number of scanlines (rows) a rendering of the buffer consists of.
+     *
+     * @return the height of the buffered bitmaps, or {@code 0} if the buffer is empty.
+     */
+    @Override
+    public int scanlineCount() {
+        return count == 0 ? 0 : buffer[0].length;
+    }
 
-        for (int i = 0; i < count; i++) {
-            for (int j = 0; j < buffer[i].length; j++) {
-                for (int k = 0; k < buffer[i][j].length; k++) {
-                    result[j] += buffer[i][j][k]; //creates a string of the chars
+    /**
+     * Method retrieves the length of each scanline rendered with the given spacing.
+     *
+     * @param spacing the number of spaces between consecutive characters.
+     *                Precondition: (spacing >= 0)
+     * @return {@code count() * (width + spacing) - spacing}, or {@code 0} if the buffer is empty.
+     */
+    @Override
+    public int scanlineLength(int spacing) {
+        return count == 0 ? 0 : count * (buffer[0][0].length + spacing) - spacing;
+    }
+
+    /**
+     * Renders the contents of the buffer into the given rows by copying each bitmap row with
+     * {@code System.arraycopy()}. No memory is allocated.
+     *
+     * @param spacing the number of spaces (ASCII code 32) to insert between consecutive characters.
+     *                Precondition: (spacing >= 0)
+     * @param target  the rows the scanlines are written to, starting at column 0.
+     *                <p>Precondition: ( target.length >= scanlineCount() ) and each row holds at least
+     *                {@code scanlineLength(spacing)} characters</p>
+     * @return the number of characters written to each row.
+     */
+    @Override
+    public int renderScanlines(int spacing, char[][] target) {
+        int height = scanlineCount();
+        int length = scanlineLength(spacing);
+
+        for (int i = 0; i < height; i++) {
+            char[] row = target[i];
+            int column = 0;
+
+            for (int j = 0; j < count; j++) {
+                char[] bitmapRow = buffer[j][i];
+                System.arraycopy(bitmapRow, 0, row, column, bitmapRow.length);
+                column += bitmapRow.length;
+
+                if (j < count - 1) {
+                    Arrays.fill(row, column, column + spacing, ' ');
+                    column += spacing;
+                }
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Renders a single scanline of the buffer into the given {@code CharBuffer}, starting at its current position.
+     * No memory is allocated.
+     *
+     * @param row     the zero-based index of the scanline.
+     *                <p>Precondition: ( row >= 0 ) && ( row < scanlineCount() )</p>
+     * @param spacing the number of spaces (ASCII code 32) to insert between consecutive characters.
+     *                Precondition: (spacing >= 0)
+     * @param target  the buffer the scanline is written to.
+     *                <p>Precondition: ( target.remaining() >= scanlineLength(spacing) )</p>
+     */
+    @Override
+    public void renderScanline(int row, int spacing, CharBuffer target) {
+        for (int j = 0; j < count; j++) {
+            target.put(buffer[j][row]);
+
+            if (j < count - 1) {
+                for (int k = 0; k < spacing; k++) {
+                    target.put(' ');
                 }
-                if (i < count - 1) //adds spacing
-                    result[j] += space;
             }
         }
-        return result;
     }
 
     /**
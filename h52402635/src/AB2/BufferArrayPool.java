@@ -0,0 +1,189 @@
+package AB2;
+
+import java.util.Arrays;
+
+/**
+ * The {@code BufferArrayPool} class recycles the bitmap arrays ({@code char[][][]}) of line buffers.
+ *
+ * <p>Arrays are pooled by their exact length (size class), since buffer sizes follow the buffer's capacity policy
+ * and therefore repeat. Released arrays are cleared, so the pool never keeps bitmaps alive. The pool retains at
+ * most a given total number of array slots; arrays released beyond this bound are left to the garbage collector.
+ * Hits (acquisitions served from the pool), misses and discarded releases are counted.</p>
+ * <p>Size classes are kept in an open-addressed table keyed by the plain {@code int} length (linear probing,
+ * at most half full), so neither lookups nor releases box the length. Each size class holds its arrays in an
+ * array-backed stack.</p>
+ * <p>The pool is thread-safe and can be shared between buffers.</p>
+ */
+public class BufferArrayPool {
+    private static final int EMPTY = -1;
+    private static final int INITIAL_CAPACITY = 16;  // power of two
+
+    private final long maxRetainedSlots;
+    private int[] lengths;             // length of each size class, EMPTY for unused slots
+    private char[][][][][] stacks;     // pooled arrays of each size class
+    private int[] depths;              // number of pooled arrays of each size class
+    private int sizeClassCount;
+    private long retainedSlots;
+
+    private long hits;
+    private long misses;
+    private long discards;
+
+    /**
+     * Constructs an empty {@code BufferArrayPool} object.
+     *
+     * @param maxRetainedSlots the maximum total length of all arrays retained by the pool.
+     *                         <p>Precondition: ( maxRetainedSlots >= 0 )</p>
+     */
+    public BufferArrayPool(long maxRetainedSlots) {
+        this.maxRetainedSlots = maxRetainedSlots;
+        allocateTable(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Retrieves an array of the given length, whose elements are all {@code null}. A pooled array is reused if
+     * available, otherwise a new one is allocated.
+     *
+     * @param length the length of the array.
+     *               <p>Precondition: ( length >= 0 )</p>
+     * @return an empty array of the given length.
+     */
+    public synchronized char[][][] acquire(int length) {
+        int slot = find(length);
+        if (lengths[slot] == EMPTY || depths[slot] == 0) {
+            misses++;
+            return new char[length][][];
+        }
+
+        hits++;
+        retainedSlots -= length;
+
+        char[][][][] stack = stacks[slot];
+        char[][][] array = stack[--depths[slot]];
+        stack[depths[slot]] = null;
+        return array;
+    }
+
+    /**
+     * Returns an array to the pool. The array is cleared and must no longer be used by the caller.
+     *
+     * @param array the array to be recycled.
+     *              <p>Precondition: ( array != null )</p>
+     */
+    public synchronized void release(char[][][] array) {
+        if (retainedSlots + array.length > maxRetainedSlots) {
+            discards++;
+            return;
+        }
+
+        Arrays.fill(array, null);
+        int slot = find(array.length);
+        if (lengths[slot] == EMPTY) {
+            slot = addSizeClass(slot, array.length);
+        }
+
+        char[][][][] stack = stacks[slot];
+        if (depths[slot] == stack.length) {
+            stack = stacks[slot] = Arrays.copyOf(stack, stack.length * 2);
+        }
+        stack[depths[slot]++] = array;
+        retainedSlots += array.length;
+    }
+
+    /**
+     * Removes all arrays from the pool. The statistics are kept.
+     */
+    public synchronized void clear() {
+        allocateTable(INITIAL_CAPACITY);
+        retainedSlots = 0;
+    }
+
+    /**
+     * Returns the total length of all arrays retained by the pool.
+     *
+     * @return the number of retained array slots.
+     */
+    public synchronized long getRetainedSlots() {
+        return retainedSlots;
+    }
+
+    /**
+     * Returns the number of acquisitions served from the pool.
+     *
+     * @return the number of pool hits.
+     */
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of acquisitions that required a new array.
+     *
+     * @return the number of pool misses.
+     */
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of released arrays that were not retained due to the bound.
+     *
+     * @return the number of discarded arrays.
+     */
+    public synchronized long getDiscardCount() {
+        return discards;
+    }
+
+    /**
+     * Returns the slot of the size class with the given length, or the empty slot at which it would be added.
+     */
+    private int find(int length) {
+        int mask = lengths.length - 1;
+        int hash = length * 0x9E3779B9;
+        int slot = (hash ^ hash >>> 16) & mask;
+
+        while (lengths[slot] != EMPTY && lengths[slot] != length) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Adds a size class at the given empty slot. If the table becomes more than half full, it is doubled first.
+     *
+     * @return the slot of the new size class.
+     */
+    private int addSizeClass(int slot, int length) {
+        if (2 * (sizeClassCount + 1) > lengths.length) {
+            int[] oldLengths = lengths;
+            char[][][][][] oldStacks = stacks;
+            int[] oldDepths = depths;
+            int count = sizeClassCount;
+
+            allocateTable(oldLengths.length * 2);
+            for (int i = 0; i < oldLengths.length; i++) {
+                if (oldLengths[i] == EMPTY) continue;
+
+                int target = find(oldLengths[i]);
+                lengths[target] = oldLengths[i];
+                stacks[target] = oldStacks[i];
+                depths[target] = oldDepths[i];
+            }
+            sizeClassCount = count;
+            slot = find(length);
+        }
+
+        lengths[slot] = length;
+        stacks[slot] = new char[4][][][];
+        sizeClassCount++;
+        return slot;
+    }
+
+    private void allocateTable(int capacity) {
+        lengths = new int[capacity];
+        Arrays.fill(lengths, EMPTY);
+        stacks = new char[capacity][][][][];
+        depths = new int[capacity];
+        sizeClassCount = 0;
+    }
+}
@@ -0,0 +1,243 @@
+package AB2;
+
+import AB2.Interfaces.AdvancedLineBuffer;
+import AB2.Interfaces.LineBuffer;
+
+import java.util.Arrays;
+
+/**
+ * The {@code EditJournal} class records the edits applied to a line buffer, so that they can be undone and redone
+ * (see {@code AdvancedLinePrinter.setUndoEnabled()}).
+ *
+ * <p>Each edit is stored as an operation type, a position and a reference to the bitmap involved, in parallel
+ * arrays, so recording an edit does not copy the line. Edits are grouped: a group (e.g. all characters of a printed
+ * string) is undone and redone as a whole. Recording a new edit discards all edits that could be redone.</p>
+ *
+ * <p>Range edits ({@code INSERT_RANGE} and {@code DELETE_RANGE}) reference an array of bitmaps instead of a single
+ * one, and are undone and redone with the bulk methods of {@code AdvancedLineBuffer}.</p>
+ *
+ * <p>The journal keeps at most a given number of groups. Starting a group beyond this limit discards the oldest
+ * group, so the journal cannot grow without bound while a long line is edited.</p>
+ */
+class EditJournal {
+    static final byte PUSH = 0;
+    static final byte POP = 1;
+    static final byte INSERT = 2;
+    static final byte DELETE = 3;
+    static final byte INSERT_RANGE = 4;
+    static final byte DELETE_RANGE = 5;
+
+    static final int DEFAULT_MAX_GROUPS = 100;
+
+    private static final int INITIAL_SIZE = 16;
+
+    private final int maxGroups;
+
+    private byte[] types = new byte[INITIAL_SIZE];
+    private int[] positions = new int[INITIAL_SIZE];
+    private char[][][] bitmaps = new char[INITIAL_SIZE][][];
+    private char[][][][] ranges = new char[INITIAL_SIZE][][][];
+    private boolean[] groupStarts = new boolean[INITIAL_SIZE];
+
+    private int size;   // number of recorded edits; edits at [top, size) can be redone
+    private int top;    // number of edits that can be undone
+    private int groups; // number of groups that can be undone
+    private boolean startGroup;
+
+    /**
+     * Constructs an empty {@code EditJournal} object.
+     *
+     * @param maxGroups the maximum number of groups that can be undone.
+     *                  <p>Precondition: ( maxGroups > 0 )</p>
+     */
+    EditJournal(int maxGroups) {
+        this.maxGroups = maxGroups;
+    }
+
+    /**
+     * Starts a new group. The next recorded edit is the group's first edit.
+     */
+    void beginGroup() {
+        startGroup = true;
+    }
+
+    /**
+     * Records an edit that has been applied to the buffer.
+     *
+     * @param type     the operation type ({@code PUSH}, {@code POP}, {@code INSERT} or {@code DELETE}).
+     * @param position the position of the edit (ignored for {@code PUSH} and {@code POP}).
+     * @param bitmap   the bitmap that was added or removed.
+     */
+    void record(byte type, int position, char[][] bitmap) {
+        add(type, position, bitmap, null);
+    }
+
+    /**
+     * Records a range edit that has been applied to the buffer.
+     *
+     * @param type     the operation type ({@code INSERT_RANGE} or {@code DELETE_RANGE}).
+     * @param position the position of the first character added or removed.
+     * @param range    the bitmaps that were added or removed. The array must not be modified afterwards.
+     */
+    void recordRange(byte type, int position, char[][][] range) {
+        add(type, position, null, range);
+    }
+
+    private void add(byte type, int position, char[][] bitmap, char[][][] range) {
+        Arrays.fill(bitmaps, top, size, null);
+        Arrays.fill(ranges, top, size, null);
+        size = top;
+
+        boolean groupStart = startGroup || top == 0;
+        if (groupStart && groups == maxGroups)
+            dropOldestGroup();
+
+        if (top == types.length) {
+            int newSize = types.length * 2;
+            types = Arrays.copyOf(types, newSize);
+            positions = Arrays.copyOf(positions, newSize);
+            bitmaps = Arrays.copyOf(bitmaps, newSize);
+            ranges = Arrays.copyOf(ranges, newSize);
+            groupStarts = Arrays.copyOf(groupStarts, newSize);
+        }
+
+        types[top] = type;
+        positions[top] = position;
+        bitmaps[top] = bitmap;
+        ranges[top] = range;
+        groupStarts[top] = groupStart;
+        if (groupStart) groups++;
+        startGroup = false;
+        size = ++top;
+    }
+
+    /**
+     * Removes the first group from the journal, shifting the remaining edits to the front.
+     */
+    private void dropOldestGroup() {
+        int end = 1;
+        while (end < top && !groupStarts[end]) {
+            end++;
+        }
+
+        int remaining = top - end;
+        System.arraycopy(types, end, types, 0, remaining);
+        System.arraycopy(positions, end, positions, 0, remaining);
+        System.arraycopy(bitmaps, end, bitmaps, 0, remaining);
+        System.arraycopy(ranges, end, ranges, 0, remaining);
+        System.arraycopy(groupStarts, end, groupStarts, 0, remaining);
+        Arrays.fill(bitmaps, remaining, top, null);
+        Arrays.fill(ranges, remaining, top, null);
+
+        size = top = remaining;
+        groups--;
+    }
+
+    boolean canUndo() {
+        return top > 0;
+    }
+
+    boolean canRedo() {
+        return top < size;
+    }
+
+    /**
+     * Undoes the most recent group of edits by applying their inverse operations in reverse order.
+     *
+     * @param buffer the buffer the edits have been applied to.
+     * @return {@code true} if a group was undone, {@code false} if there is nothing to undo.
+     */
+    boolean undo(LineBuffer buffer) {
+        if (top == 0) return false;
+
+        do {
+            top--;
+            switch (types[top]) {
+                case PUSH: buffer.pop(); break;
+                case POP: buffer.push(bitmaps[top]); break;
+                case INSERT: buffer.delete(positions[top]); break;
+                case DELETE: insert(buffer, positions[top], bitmaps[top]); break;
+                case INSERT_RANGE: deleteRange(buffer, positions[top], ranges[top].length); break;
+                default: insertRange(buffer, positions[top], ranges[top]); break;
+            }
+        } while (!groupStarts[top]);
+        groups--;
+        return true;
+    }
+
+    /**
+     * Redoes the most recently undone group of edits.
+     *
+     * @param buffer the buffer the edits have been applied to.
+     * @return {@code true} if a group was redone, {@code false} if there is nothing to redo.
+     */
+    boolean redo(LineBuffer buffer) {
+        if (top == size) return false;
+
+        do {
+            switch (types[top]) {
+                case PUSH: buffer.push(bitmaps[top]); break;
+                case POP: buffer.pop(); break;
+                case INSERT: insert(buffer, positions[top], bitmaps[top]); break;
+                case DELETE: buffer.delete(positions[top]); break;
+                case INSERT_RANGE: insertRange(buffer, positions[top], ranges[top]); break;
+                default: deleteRange(buffer, positions[top], ranges[top].length); break;
+            }
+            top++;
+        } while (top < size && !groupStarts[top]);
+        groups++;
+        return true;
+    }
+
+    /**
+     * Removes all recorded edits.
+     */
+    void clear() {
+        Arrays.fill(bitmaps, 0, size, null);
+        Arrays.fill(ranges, 0, size, null);
+        size = top = groups = 0;
+    }
+
+    /**
+     * Inserts a bitmap at the given position, appending it if the position equals the number of characters
+     * (which {@code LineBuffer.insert()} rejects).
+     */
+    private static void insert(LineBuffer buffer, int position, char[][] bitmap) {
+        if (position == buffer.count())
+            buffer.push(bitmap);
+        else
+            buffer.insert(position, bitmap);
+    }
+
+    /**
+     * Inserts a range of bitmaps at the given position, with a single {@code insertAll()} if the buffer supports it.
+     */
+    private static void insertRange(LineBuffer buffer, int position, char[][][] range) {
+        if (buffer instanceof AdvancedLineBuffer) {
+            ((AdvancedLineBuffer) buffer).insertAll(position, range, 0, range.length);
+            return;
+        }
+        for (int i = 0; i < range.length; i++) {
+            insert(buffer, position + i, range[i]);
+        }
+    }
+
+    /**
+     * Deletes {@code length} characters starting at the given position, with a single {@code deleteRange()} if the
+     * buffer supports it. Otherwise, a range at the end of the buffer is popped instead of shifting the characters
+     * after it on every deletion.
+     */
+    private static void deleteRange(LineBuffer buffer, int position, int length) {
+        if (buffer instanceof AdvancedLineBuffer) {
+            ((AdvancedLineBuffer) buffer).deleteRange(position, position + length);
+            return;
+        }
+        boolean atEnd = position + length == buffer.count();
+        for (int i = 0; i < length; i++) {
+            if (atEnd)
+                buffer.pop();
+            else
+                buffer.delete(position);
+        }
+    }
+}
@@ -0,0 +1,443 @@
+package AB2;
+
+import AB2.Interfaces.AdvancedLineBuffer;
+import AB2.Interfaces.CapacityPolicy;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * The {@code GapLineBuffer} class implements a line buffer for cursor-local editing.
+ *
+ * <p>The buffer keeps its free space as a gap inside the array, which follows the position of the last edit.
+ * Inserting or deleting a character moves the gap to the edit position first, which only shifts the characters
+ * between the old and the new position. Consecutive edits near the same position are therefore O(1) amortized,
+ * while {@code class BrailleLineBuffer} shifts the whole tail on every edit.</p>
+ *
+ * <p>Just like {@code class BrailleLineBuffer}, the buffer grows and shrinks as decided by a {@code CapacityPolicy}
+ * ({@code GeometricCapacityPolicy} by default), so both buffers report the same sizes under the same policy and
+ * render identically.</p>
+ */
+public class GapLineBuffer implements AdvancedLineBuffer {
+    private char[][][] buffer;  // bitmaps before the gap, followed by the gap, followed by bitmaps after the gap
+    private int gapStart;       // index of the first free slot
+    private int gapEnd;         // index of the first bitmap after the gap (exclusive end of the gap)
+
+    private final int initialSize;
+    private final CapacityPolicy capacityPolicy;
+
+    /**
+     * Constructs a {@code GapLineBuffer} object.
+     *
+     * @param initialSize    the initial size of the buffer.
+     * @param growthFactor   factor by which the buffer is expanded, if it is full but a new Braille character
+     *                       has to be added
+     *                       <p>Preconditions: ( growthFactor > 1 )</p>
+     * @param reductionRatio denotes a ratio (number of characters stored in buffer divided by size of buffer). If the
+     *                       real ratio after a delete operation falls below this value, the buffer will be shrunk.
+     *                       <p>Preconditions: ( reductionRatio < 1 ) </p>
+     */
+    public GapLineBuffer(int initialSize, double growthFactor, double reductionRatio) {
+        this(initialSize, new GeometricCapacityPolicy(initialSize, growthFactor, reductionRatio));
+    }
+
+    /**
+     * Constructs a {@code GapLineBuffer} object, which grows and shrinks as decided by the given policy.
+     *
+     * @param initialSize    the initial size of the buffer.
+     * @param capacityPolicy the policy computing new buffer sizes. It must not be shared with other buffers.
+     *                       <p>Preconditions: ( capacityPolicy != null )</p>
+     */
+    public GapLineBuffer(int initialSize, CapacityPolicy capacityPolicy) {
+        this.initialSize = initialSize;
+        this.capacityPolicy = capacityPolicy;
+
+        buffer = new char[initialSize][][];
+        gapStart = 0;
+        gapEnd = initialSize;
+    }
+
+    /**
+     * Method retrieves the number of Braille characters that can be stored in the internal buffer (buffer space),
+     * i.e. the stored characters plus the gap.
+     *
+     * @return size of buffer
+     */
+    @Override
+    public int size() {
+        return buffer.length;
+    }
+
+    /**
+     * Method retrieves the number of characters stored within the buffer.
+     *
+     * @return number of Braille characters currently stored within the buffer
+     */
+    @Override
+    public int count() {
+        return buffer.length - (gapEnd - gapStart);
+    }
+
+    /**
+     * Method retrieves the bitmap at the specified position.
+     *
+     * @param index the index of the character.
+     *              <p>Precondition: ( index >= 0 ) && ( index < count() )</p>
+     * @return the bitmap at the specified position.
+     */
+    private char[][] at(int index) {
+        return index < gapStart ? buffer[index] : buffer[index + (gapEnd - gapStart)];
+    }
+
+    /**
+     * Moves the gap, so that it starts at the given position. Only the characters between the current and the new
+     * gap position are shifted.
+     *
+     * @param position the new start of the gap.
+     *                 <p>Precondition: ( position >= 0 ) && ( position <= count() )</p>
+     */
+    private void moveGap(int position) {
+        if (position < gapStart) {
+            int length = gapStart - position;
+            System.arraycopy(buffer, position, buffer, gapEnd - length, length);
+            Arrays.fill(buffer, position, Math.min(gapStart, gapEnd - length), null);
+            gapStart -= length;
+            gapEnd -= length;
+        } else if (position > gapStart) {
+            int length = position - gapStart;
+            System.arraycopy(buffer, gapEnd, buffer, gapStart, length);
+            Arrays.fill(buffer, Math.max(gapEnd, gapStart + length), gapEnd + length, null);
+            gapStart += length;
+            gapEnd += length;
+        }
+    }
+
+    /**
+     * Replaces the internal array by one of the given size. The gap is kept at its current position.
+     *
+     * @param newSize the new size of the buffer.
+     *                <p>Precondition: ( newSize >= count() )</p>
+     */
+    private void resize(int newSize) {
+        int tail = buffer.length - gapEnd;
+        char[][][] newBuffer = new char[newSize][][];
+
+        System.arraycopy(buffer, 0, newBuffer, 0, gapStart);
+        System.arraycopy(buffer, gapEnd, newBuffer, newSize - tail, tail);
+        buffer = newBuffer;
+        gapEnd = newSize - tail;
+    }
+
+    /**
+     * Method expands the internal buffer, if it is full (the gap is empty). The new buffer size is computed by the
+     * capacity policy, by default as {@code newSize = (int)Math.ceil(currentSize * growthFactor)}.
+     */
+    @Override
+    public void expandBuffer() {
+        if (gapEnd > gapStart) return;
+
+        resize(capacityPolicy.grow(size(), size() + 1));
+    }
+
+    /**
+     * Method expands the internal buffer, so that it can store at least the given number of characters without
+     * further expansion. The size grows as decided by the capacity policy, just as if the characters were pushed
+     * one by one, but the content is copied only once.
+     *
+     * @param capacity the number of characters the buffer must be able to store.
+     */
+    @Override
+    public void ensureCapacity(int capacity) {
+        if (buffer.length >= capacity) return;
+
+        resize(capacityPolicy.grow(size(), capacity));
+    }
+
+    /**
+     * Method reduces the size of the internal buffer, if the capacity policy asks for it (by default, if its usage
+     * ratio is lower than the reduction ratio). The gap is kept at its current position.
+     */
+    @Override
+    public void reduceBuffer() {
+        int newSize = capacityPolicy.shrink(size(), count());
+
+        if (newSize != size()) resize(newSize);
+    }
+
+    /**
+     * Method pushes (appends) a bitmap representation of a Braille character to the end of the internal buffer.
+     * The gap is moved to the end first.
+     *
+     * <p>If the buffer is full, it expands its size before appending the new bitmap.</p>
+     *
+     * @param bitmap the bitmap representation of a Braille character to be appended to the buffer.
+     *               Precondition: ( bitmap != null )
+     */
+    @Override
+    public void push(char[][] bitmap) {
+        moveGap(count());
+        expandBuffer();
+
+        buffer[gapStart++] = bitmap;
+    }
+
+    /**
+     * Method pushes (appends) a range of bitmaps to the end of the internal buffer, expanding it at most once.
+     *
+     * @param bitmaps the bitmap representations of Braille characters to be appended to the buffer.
+     *                Precondition: ( bitmaps != null ) and no bitmap within the range is {@code null}
+     * @param offset  the index of the first bitmap within {@code bitmaps} to be appended.
+     * @param length  the number of bitmaps to be appended.
+     */
+    @Override
+    public void pushAll(char[][][] bitmaps, int offset, int length) {
+        moveGap(count());
+        ensureCapacity(count() + length);
+
+        System.arraycopy(bitmaps, offset, buffer, gapStart, length);
+        gapStart += length;
+    }
+
+    /**
+     * Method retrieves the last bitmap of a Braille character from the internal buffer. If the buffer is empty,
+     * {@code null} is returned instead. If a bitmap was found, it is removed from the buffer and the buffer might be
+     * shrunk.
+     *
+     * @return {@code null} if buffer is empty, or the bitmap at the end of the buffer.
+     */
+    @Override
+    public char[][] pop() {
+        if (count() == 0) return null;
+
+        moveGap(count());
+        char[][] resultBitmap = buffer[--gapStart];
+        buffer[gapStart] = null;
+
+        reduceBuffer();
+
+        return resultBitmap;
+    }
+
+    /**
+     * Method retrieves the bitmap of the Braille character at the specified position without removing it.
+     *
+     * @param position the index of the character.
+     * @return the bitmap at the specified position, or {@code null} if the position is invalid.
+     */
+    @Override
+    public char[][] get(int position) {
+        if (position < 0 || position >= count()) return null;
+
+        return at(position);
+    }
+
+    /**
+     * Method inserts a bitmap at the specified position. The gap is moved to the position first, so consecutive
+     * inserts at the cursor do not shift any characters.
+     *
+     * @param cursorPosition the index at which the character has to be inserted.
+     *                       If the position is invalid (negative or outside the range of stored characters),
+     *                       no insertion is performed.
+     * @param bitmap         the bitmap representation of a Braille character to be inserted.
+     *                       Precondition: ( bitmap != null )
+     * @return {@code true} if the character was successfully inserted,
+     * {@code false} otherwise (e.g., invalid position or empty buffer).
+     */
+    @Override
+    public boolean insert(int cursorPosition, char[][] bitmap) {
+        if (cursorPosition >= count() || cursorPosition < 0)
+            return false;
+
+        moveGap(cursorPosition);
+        expandBuffer();
+
+        buffer[gapStart++] = bitmap;
+        return true;
+    }
+
+    /**
+     * Method inserts a range of bitmaps at the specified position. The gap is moved to the position and widened
+     * once, and the bitmaps are copied into it.
+     *
+     * @param position the index at which the first bitmap has to be inserted ( {@code position == count()} appends).
+     * @param bitmaps  the bitmap representations of Braille characters to be inserted.
+     *                 Precondition: ( bitmaps != null ) and no bitmap within the range is {@code null}
+     * @param offset   the index of the first bitmap within {@code bitmaps} to be inserted.
+     * @param length   the number of bitmaps to be inserted.
+     * @return {@code true} if the bitmaps were inserted, {@code false} if the position is invalid.
+     */
+    @Override
+    public boolean insertAll(int position, char[][][] bitmaps, int offset, int length) {
+        if (position > count() || position < 0)
+            return false;
+
+        moveGap(position);
+        ensureCapacity(count() + length);
+
+        System.arraycopy(bitmaps, offset, buffer, gapStart, length);
+        gapStart += length;
+        return true;
+    }
+
+    /**
+     * Method deletes the characters in the range {@code [from, to)}. The gap is moved to {@code from} and then
+     * extended over the whole range.
+     *
+     * @param from the index of the first character to be deleted.
+     * @param to   the index after the last character to be deleted.
+     * @return {@code true} if the range was deleted, {@code false} if it is invalid.
+     */
+    @Override
+    public boolean deleteRange(int from, int to) {
+        if (from < 0 || to > count() || from > to)
+            return false;
+        if (from == to) return true;
+
+        moveGap(from);
+        Arrays.fill(buffer, gapEnd, gapEnd + (to - from), null);
+        gapEnd += to - from;
+
+        reduceBuffer();
+        return true;
+    }
+
+    /**
+     * Method deletes a Braille character at the specified position. The gap is moved to the position first and
+     * then extended over the deleted character.
+     *
+     * @param cursorPosition the index of the character to be deleted.
+     *                       If the position is invalid (negative or outside the range of stored characters),
+     *                       no deletion is performed.
+     * @return {@code true} if the character was successfully deleted,
+     * {@code false} otherwise (e.g., invalid position or empty buffer).
+     */
+    @Override
+    public boolean delete(int cursorPosition) {
+        if (cursorPosition >= count() || cursorPosition < 0)
+            return false;
+
+        moveGap(cursorPosition);
+        buffer[gapEnd++] = null;
+
+        reduceBuffer();
+        return true;
+    }
+
+    /**
+     * Method clears the content of the buffer.
+     * <p>The buffer is reinitialized with its initial size, which is entirely gap.</p>
+     */
+    @Override
+    public void clearBuffer() {
+        buffer = new char[initialSize][][];
+        gapStart = 0;
+        gapEnd = initialSize;
+    }
+
+    /**
+     * Renders the contents of the buffer into an array of strings, each representing a scanline.
+     * Characters in the buffer are aligned horizontally with spacing between them.
+     *
+     * @param spacing the number of spaces (ASCII code 32) to insert between consecutive characters from the buffer
+     *                in the rendered output.
+     *                Precondition: (spacing >= 0)
+     * @return an array of strings, where each string represents a scanline of the combined buffered characters.
+     * Returns {@code null} if the buffer is empty.
+     */
+    @Override
+    public String[] renderScanlines(int spacing) {
+        int height = scanlineCount();
+        if (height == 0) return null;
+
+        char[][] rows = new char[height][scanlineLength(spacing)];
+        renderScanlines(spacing, rows);
+
+        String[] result = new String[height];
+        for (int i = 0; i < height; i++) {
+            result[i] = new String(rows[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Method retrieves the number of scanlines (rows) a rendering of the buffer consists of.
+     *
+     * @return the height of the buffered bitmaps, or {@code 0} if the buffer is empty.
+     */
+    @Override
+    public int scanlineCount() {
+        return count() == 0 ? 0 : at(0).length;
+    }
+
+    /**
+     * Method retrieves the length of each scanline rendered with the given spacing.
+     *
+     * @param spacing the number of spaces between consecutive characters.
+     *                Precondition: (spacing >= 0)
+     * @return {@code count() * (width + spacing) - spacing}, or {@code 0} if the buffer is empty.
+     */
+    @Override
+    public int scanlineLength(int spacing) {
+        int count = count();
+        return count == 0 ? 0 : count * (at(0)[0].length + spacing) - spacing;
+    }
+
+    /**
+     * Renders the contents of the buffer into the given rows, skipping the gap. No memory is allocated.
+     *
+     * @param spacing the number of spaces (ASCII code 32) to insert between consecutive characters.
+     *                Precondition: (spacing >= 0)
+     * @param target  the rows the scanlines are written to, starting at column 0.
+     *                <p>Precondition: ( target.length >= scanlineCount() ) and each row holds at least
+     *                {@code scanlineLength(spacing)} characters</p>
+     * @return the number of characters written to each row.
+     */
+    @Override
+    public int renderScanlines(int spacing, char[][] target) {
+        int height = scanlineCount();
+        int count = count();
+
+        for (int i = 0; i < height; i++) {
+            char[] row = target[i];
+            int column = 0;
+
+            for (int j = 0; j < count; j++) {
+                char[] bitmapRow = at(j)[i];
+                System.arraycopy(bitmapRow, 0, row, column, bitmapRow.length);
+                column += bitmapRow.length;
+
+                if (j < count - 1) {
+                    Arrays.fill(row, column, column + spacing, ' ');
+                    column += spacing;
+                }
+            }
+        }
+        return scanlineLength(spacing);
+    }
+
+    /**
+     * Renders a single scanline of the buffer into the given {@code CharBuffer}, starting at its current position.
+     * No memory is allocated.
+     *
+     * @param row     the zero-based index of the scanline.
+     *                <p>Precondition: ( row >= 0 ) && ( row < scanlineCount() )</p>
+     * @param spacing the number of spaces (ASCII code 32) to insert between consecutive characters.
+     *                Precondition: (spacing >= 0)
+     * @param target  the buffer the scanline is written to.
+     *                <p>Precondition: ( target.remaining() >= scanlineLength(spacing) )</p>
+     */
+    @Override
+    public void renderScanline(int row, int spacing, CharBuffer target) {
+        int count = count();
+
+        for (int j = 0; j < count; j++) {
+            target.put(at(j)[row]);
+
+            if (j < count - 1) {
+                for (int k = 0; k < spacing; k++) {
+                    target.put(' ');
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package AB2;
+
+import AB2.Interfaces.CapacityPolicy;
+
+/**
+ * Capacity policy that grows a buffer by a constant factor and shrinks it when its usage ratio falls below a
+ * threshold. This is the policy {@code BrailleLineBuffer} uses by default.
+ */
+public class GeometricCapacityPolicy implements CapacityPolicy {
+    private final int initialSize;
+    private final double growthFactor;
+    private final double reductionRatio;
+
+    /**
+     * Constructs a {@code GeometricCapacityPolicy} object.
+     *
+     * @param initialSize    the size the buffer is never shrunk to or below.
+     * @param growthFactor   factor by which the buffer is expanded.
+     *                       <p>Preconditions: ( growthFactor > 1 )</p>
+     * @param reductionRatio if the usage ratio (number of characters divided by size) falls below this value,
+     *                       the buffer is resized to {@code Math.ceil(count * growthFactor)}.
+     *                       <p>Preconditions: ( reductionRatio < 1 )</p>
+     */
+    public GeometricCapacityPolicy(int initialSize, double growthFactor, double reductionRatio) {
+        this.initialSize = initialSize;
+        this.growthFactor = growthFactor;
+        this.reductionRatio = reductionRatio;
+    }
+
+    @Override
+    public int grow(int size, int required) {
+        while (size < required) {
+            size = Math.max((int) Math.ceil(size * growthFactor), size + 1);
+        }
+        return size;
+    }
+
+    @Override
+    public int shrink(int size, int count) {
+        if (count / (double) size >= reductionRatio) return size;
+
+        int newSize = (int) Math.ceil(count * growthFactor);
+        return newSize <= initialSize ? size : newSize;
+    }
+}
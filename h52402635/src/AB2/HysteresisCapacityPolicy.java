@@ -0,0 +1,48 @@
+package AB2;
+
+import AB2.Interfaces.CapacityPolicy;
+
+/**
+ * Capacity policy that delays the shrinking decisions of another policy.
+ *
+ * <p>A buffer is shrunk only after the underlying policy has asked to shrink it on a given number of consecutive
+ * removals. Growing the buffer, or a removal after which the underlying policy keeps the size, resets the delay.
+ * This avoids repeated reallocation when additions and removals alternate around a shrink threshold.</p>
+ */
+public class HysteresisCapacityPolicy implements CapacityPolicy {
+    private final CapacityPolicy policy;
+    private final int shrinkDelay;
+    private int pendingShrinks;     // consecutive removals on which the underlying policy asked to shrink
+
+    /**
+     * Constructs a {@code HysteresisCapacityPolicy} object.
+     *
+     * @param policy      the underlying policy.
+     *                    <p>Preconditions: ( policy != null )</p>
+     * @param shrinkDelay the number of consecutive removals asking to shrink before the buffer is shrunk.
+     *                    <p>Preconditions: ( shrinkDelay > 0 )</p>
+     */
+    public HysteresisCapacityPolicy(CapacityPolicy policy, int shrinkDelay) {
+        this.policy = policy;
+        this.shrinkDelay = shrinkDelay;
+    }
+
+    @Override
+    public int grow(int size, int required) {
+        pendingShrinks = 0;
+        return policy.grow(size, required);
+    }
+
+    @Override
+    public int shrink(int size, int count) {
+        int newSize = policy.shrink(size, count);
+        if (newSize == size) {
+            pendingShrinks = 0;
+            return size;
+        }
+        if (++pendingShrinks < shrinkDelay) return size;
+
+        pendingShrinks = 0;
+        return newSize;
+    }
+}
@@ -0,0 +1,106 @@
+package AB2.Interfaces;
+
+import java.nio.CharBuffer;
+
+/**
+ * Interface for line buffers, which additionally support rendering into caller-supplied memory.
+ *
+ * <p>In contrast to {@code LineBuffer.renderScanlines(int)}, the rendering methods do not allocate any strings, so
+ * repeated flushes can reuse the same target arrays or buffers. Bulk methods add many characters with a single
+ * capacity adjustment.</p>
+ */
+public interface AdvancedLineBuffer extends LineBuffer {
+
+    /**
+     * Method expands the internal buffer, so that it can store at least the given number of characters without
+     * further expansion. The buffer grows by its growth factor, just as if the characters were pushed one by one,
+     * but the content is copied only once.
+     *
+     * @param capacity the number of characters the buffer must be able to store.
+     */
+    void ensureCapacity(int capacity);
+
+    /**
+     * Method pushes (appends) a range of bitmaps to the end of the internal buffer, expanding it at most once.
+     *
+     * @param bitmaps the bitmap representations of Braille characters to be appended to the buffer.
+     *                Precondition: ( bitmaps != null ) and no bitmap within the range is {@code null}
+     * @param offset  the index of the first bitmap within {@code bitmaps} to be appended.
+     * @param length  the number of bitmaps to be appended.
+     */
+    void pushAll(char[][][] bitmaps, int offset, int length);
+
+    /**
+     * Method inserts a range of bitmaps at the specified position, shifting the characters at and right of the
+     * position only once and adjusting the capacity at most once.
+     *
+     * @param position the index at which the first bitmap has to be inserted. In contrast to
+     *                 {@code insert(int, char[][])}, {@code position == count()} appends the bitmaps.
+     * @param bitmaps  the bitmap representations of Braille characters to be inserted.
+     *                 Precondition: ( bitmaps != null ) and no bitmap within the range is {@code null}
+     * @param offset   the index of the first bitmap within {@code bitmaps} to be inserted.
+     * @param length   the number of bitmaps to be inserted.
+     *                 Precondition: ( length >= 0 )
+     * @return {@code true} if the bitmaps were inserted, {@code false} if the position is invalid.
+     */
+    boolean insertAll(int position, char[][][] bitmaps, int offset, int length);
+
+    /**
+     * Method deletes the characters in the range {@code [from, to)}, shifting the remaining characters only once
+     * and reducing the buffer at most once.
+     *
+     * @param from the index of the first character to be deleted.
+     * @param to   the index after the last character to be deleted.
+     * @return {@code true} if the range was deleted, {@code false} if it is invalid
+     * ( {@code from < 0}, {@code to > count()} or {@code from > to} ).
+     */
+    boolean deleteRange(int from, int to);
+
+    /**
+     * Method retrieves the bitmap of the Braille character at the specified position without removing it.
+     *
+     * @param position the index of the character.
+     * @return the bitmap at the specified position, or {@code null} if the position is invalid.
+     */
+    char[][] get(int position);
+
+    /**
+     * Method retrieves the number of scanlines (rows) a rendering of the buffer consists of.
+     *
+     * @return the height of the buffered characters, or {@code 0} if the buffer is empty.
+     */
+    int scanlineCount();
+
+    /**
+     * Method retrieves the length of each scanline rendered with the given spacing.
+     *
+     * @param spacing the number of spaces between consecutive characters.
+     *                Precondition: (spacing >= 0)
+     * @return {@code count() * (width + spacing) - spacing}, or {@code 0} if the buffer is empty.
+     */
+    int scanlineLength(int spacing);
+
+    /**
+     * Renders the contents of the buffer into the given rows.
+     *
+     * @param spacing the number of spaces (ASCII code 32) to insert between consecutive characters.
+     *                Precondition: (spacing >= 0)
+     * @param target  the rows the scanlines are written to, starting at column 0.
+     *                <p>Precondition: ( target.length >= scanlineCount() ) and each row holds at least
+     *                {@code scanlineLength(spacing)} characters</p>
+     * @return the number of characters written to each row.
+     */
+    int renderScanlines(int spacing, char[][] target);
+
+    /**
+     * Renders a single scanline of the buffer into the given {@code CharBuffer}, starting at its current position.
+     *
+     * @param row     the zero-based index of the scanline.
+     *                <p>Precondition: ( row >= 0 ) && ( row < scanlineCount() )</p>
+     * @param spacing the number of spaces (ASCII code 32) to insert between consecutive characters.
+     *                Precondition: (spacing >= 0)
+     * @param target  the buffer the scanline is written to.
+     *                <p>Precondition: ( target.remaining() >= scanlineLength(spacing) )</p>
+     */
+    void renderScanline(int row, int spacing, CharBuffer target);
+}
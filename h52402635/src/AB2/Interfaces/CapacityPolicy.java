@@ -0,0 +1,28 @@
+package AB2.Interfaces;
+
+/**
+ * Interface for policies, which decide how a line buffer's size changes when it is full or sparsely used.
+ *
+ * <p>Policies may keep state (e.g. to delay shrinking), so each buffer needs its own policy instance.</p>
+ */
+public interface CapacityPolicy {
+    /**
+     * Computes the size of a buffer that has to store more characters than it currently can.
+     *
+     * @param size     the current size of the buffer.
+     * @param required the number of characters the buffer must be able to store.
+     *                 <p>Precondition: ( required > size )</p>
+     * @return the new size of the buffer, which is greater than or equal to {@code required}.
+     */
+    int grow(int size, int required);
+
+    /**
+     * Computes the size of a buffer after characters have been removed from it.
+     *
+     * @param size  the current size of the buffer.
+     * @param count the number of characters stored in the buffer.
+     * @return the new size of the buffer, which is greater than or equal to {@code count},
+     * or {@code size} if the buffer should not be resized.
+     */
+    int shrink(int size, int count);
+}
@@ -0,0 +1,13 @@
+package AB2.Interfaces;
+
+/**
+ * Interface for immutable snapshots of the content of a line buffer (see {@code SnapshotLineBuffer}).
+ */
+public interface LineBufferSnapshot {
+    /**
+     * Retrieves the number of characters captured by the snapshot.
+     *
+     * @return number of Braille characters stored within the buffer when the snapshot was taken
+     */
+    int count();
+}
@@ -0,0 +1,79 @@
+package AB2.Interfaces;
+
+/**
+ * Interface for fonts, which additionally provide the packed (binary) representation of their characters.
+ *
+ * <p>A packed cell stores a Braille character in one {@code byte} (see {@code class BrailleCell} for the bit layout).
+ * Buffers can store packed cells instead of bitmaps and expand them with the font at render time.</p>
+ */
+public interface PackedFont extends Font {
+
+    /**
+     * Retrieves the packed cell of a given ASCII character.
+     *
+     * @param character the ASCII character for which the packed cell will be returned.
+     * @return the packed cell that corresponds to the given ASCII character.
+     * For non-letters, the packed cell of a white space ({@code 0}) is returned.
+     */
+    byte getCell(char character);
+
+    /**
+     * Retrieves the bitmap ({@code char[][]}) of a packed cell.
+     *
+     * <p>The returned bitmap is shared by all callers and must not be modified.</p>
+     *
+     * @param cell the packed cell.
+     * @return a bitmap ({@code char[][]}) containing dot and space symbols of this font.
+     */
+    char[][] getBitmap(byte cell);
+
+    /**
+     * Retrieves a single row of the bitmap of a packed cell.
+     *
+     * <p>The returned row is shared by all callers and must not be modified.</p>
+     *
+     * @param cell the packed cell.
+     * @param row  the zero-based row of the bitmap.
+     *             <p>Precondition: ( row >= 0 ) && ( row < getHeight() )</p>
+     * @return the row of the cell's bitmap, containing {@code getWidth()} dot and space symbols.
+     */
+    char[] getGlyphRow(byte cell, int row);
+
+    /**
+     * Retrieves a single row of the bitmap of a packed cell, followed by {@code spacing} spaces (ASCII code 32).
+     * Renderers can emit a character and the spacing to the next one with a single copy.
+     *
+     * <p>The returned row is shared by all callers and must not be modified.</p>
+     *
+     * @param cell    the packed cell.
+     * @param row     the zero-based row of the bitmap.
+     *                <p>Precondition: ( row >= 0 ) && ( row < getHeight() )</p>
+     * @param spacing the number of spaces following the row.
+     *                <p>Precondition: ( spacing >= 0 )</p>
+     * @return the row of the cell's bitmap and the spacing, containing {@code getWidth() + spacing} characters.
+     */
+    char[] getSpacedGlyphRow(byte cell, int row, int spacing);
+
+    /**
+     * Packs a bitmap of this font into its binary representation.
+     *
+     * @param bitmap the bitmap of a Braille character of this font.
+     *               <p>Precondition: ( bitmap != null )</p>
+     * @return the packed cell of the bitmap.
+     */
+    byte pack(char[][] bitmap);
+
+    /**
+     * Returns the character used to represent a filled cell (dot).
+     *
+     * @return the dot symbol of this font.
+     */
+    char getDotSymbol();
+
+    /**
+     * Returns the character used to represent an empty cell (space).
+     *
+     * @return the space symbol of this font.
+     */
+    char getSpaceSymbol();
+}
@@ -0,0 +1,58 @@
+package AB2.Interfaces;
+
+/**
+ * Interface for line buffers, which store Braille characters as packed cells (one {@code byte} per character).
+ *
+ * <p>Bitmaps passed to the {@code LineBuffer} methods are packed on insertion and expanded with the buffer's font
+ * when they are retrieved or rendered.</p>
+ */
+public interface PackedLineBuffer extends AdvancedLineBuffer {
+
+    /**
+     * Method pushes (appends) a packed cell to the end of the internal buffer.
+     *
+     * <p>If the buffer is full, it expands its size before appending the new cell.</p>
+     *
+     * @param cell the packed cell to be appended to the buffer.
+     */
+    void pushCell(byte cell);
+
+    /**
+     * Method pushes (appends) a range of packed cells to the end of the internal buffer, expanding it at most once.
+     *
+     * @param cells  the packed cells to be appended.
+     * @param offset the index of the first cell within {@code cells} to be appended.
+     * @param length the number of cells to be appended.
+     */
+    void pushCells(byte[] cells, int offset, int length);
+
+    /**
+     * Method inserts a packed cell into the internal buffer at specified position by shifting all existing
+     * characters at and right of the specified position to the right (next index).
+     *
+     * @param cursorPosition the index at which the cell has to be inserted.
+     * @param cell           the packed cell to be inserted.
+     * @return {@code true} if the cell was successfully inserted,
+     * {@code false} otherwise (e.g., invalid position or empty buffer).
+     */
+    boolean insertCell(int cursorPosition, byte cell);
+
+    /**
+     * Method retrieves the packed cell at the specified position.
+     *
+     * @param index the index of the cell.
+     * @return the packed cell at the specified position, or {@code -1} if the position is invalid.
+     */
+    byte getCell(int index);
+
+    /**
+     * Method copies a range of packed cells into the given array.
+     *
+     * @param sourcePosition the index of the first cell to be copied.
+     * @param destination    the array the cells are copied to.
+     * @param destPosition   the index within {@code destination} the first cell is copied to.
+     * @param length         the maximum number of cells to be copied.
+     * @return the number of cells actually copied.
+     */
+    int copyCells(int sourcePosition, byte[] destination, int destPosition, int length);
+}
@@ -0,0 +1,27 @@
+package AB2.Interfaces;
+
+/**
+ * Interface for line buffers, which can capture and restore their content in constant time.
+ *
+ * <p>Snapshots share their structure with the buffer (persistent or copy-on-write data structures), so neither
+ * taking nor restoring a snapshot copies the buffered characters, and later modifications of the buffer do not
+ * affect existing snapshots.</p>
+ */
+public interface SnapshotLineBuffer extends AdvancedLineBuffer {
+
+    /**
+     * Captures the current content of the buffer.
+     *
+     * @return an immutable snapshot of the buffer's content.
+     */
+    LineBufferSnapshot snapshot();
+
+    /**
+     * Replaces the content of the buffer by the content captured in the given snapshot.
+     *
+     * @param snapshot a snapshot taken from a buffer of the same class.
+     * @return {@code true} if the content was restored, {@code false} if the snapshot is {@code null} or
+     * was not taken from a buffer of the same class.
+     */
+    boolean restore(LineBufferSnapshot snapshot);
+}
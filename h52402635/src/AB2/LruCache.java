@@ -0,0 +1,159 @@
+package AB2;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * The {@code LruCache} class is a map bounded by a maximum number of entries and a maximum total weight. When
+ * either bound is exceeded, the least recently used entries are evicted. Hits, misses and evictions are counted.
+ *
+ * <p>The weight of an entry is calculated by a weigher when the entry is stored (e.g. the number of characters
+ * of a rendered value), so the weigher must return the same weight for an entry as long as it is cached.</p>
+ * <p>The cache is not thread-safe; caches shared between threads have to synchronize their calls.</p>
+ *
+ * @param <K> the type of the keys, which must implement {@code equals()} and {@code hashCode()}.
+ * @param <V> the type of the cached values.
+ */
+public class LruCache<K, V> {
+    private final int maxEntries;
+    private final long maxWeight;
+    private final ToLongBiFunction<? super K, ? super V> weigher;
+    private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructs an empty {@code LruCache} object, which is bounded by the number of entries only.
+     *
+     * @param maxEntries the maximum number of entries.
+     *                   <p>Precondition: ( maxEntries >= 0 )</p>
+     */
+    public LruCache(int maxEntries) {
+        this(maxEntries, Long.MAX_VALUE, (key, value) -> 0);
+    }
+
+    /**
+     * Constructs an empty {@code LruCache} object.
+     *
+     * @param maxEntries the maximum number of entries.
+     *                   <p>Precondition: ( maxEntries >= 0 )</p>
+     * @param maxWeight  the maximum total weight of all entries.
+     *                   <p>Precondition: ( maxWeight > 0 )</p>
+     * @param weigher    calculates the weight of an entry.
+     *                   <p>Precondition: ( weigher != null )</p>
+     */
+    public LruCache(int maxEntries, long maxWeight, ToLongBiFunction<? super K, ? super V> weigher) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Retrieves the value of a key and marks the entry as most recently used.
+     *
+     * @param key the key of the entry.
+     * @return the cached value, or {@code null} if the key is not cached.
+     */
+    public V get(K key) {
+        V value = entries.get(key);
+        if (value == null)
+            misses++;
+        else
+            hits++;
+        return value;
+    }
+
+    /**
+     * Stores the value of a key, evicting least recently used entries as required by the bounds.
+     * Entries exceeding the weight bound on their own are not stored.
+     *
+     * @param key   the key of the entry, which must not be modified afterwards.
+     * @param value the value of the entry.
+     *              <p>Precondition: ( value != null )</p>
+     */
+    public void put(K key, V value) {
+        long size = weigher.applyAsLong(key, value);
+        if (size > maxWeight) return;
+
+        V previous = entries.put(key, value);
+        if (previous != null)
+            weight -= weigher.applyAsLong(key, previous);
+        weight += size;
+
+        Iterator<Map.Entry<K, V>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxEntries || weight > maxWeight) {
+            Map.Entry<K, V> entry = eldest.next();
+            weight -= weigher.applyAsLong(entry.getKey(), entry.getValue());
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Removes all entries. The statistics are kept.
+     */
+    public void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return the number of entries.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the total weight of all cached entries.
+     *
+     * @return the sum of the weights of all entries.
+     */
+    public long weight() {
+        return weight;
+    }
+
+    /**
+     * Returns the number of lookups that found an entry.
+     *
+     * @return the number of cache hits.
+     */
+    public long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that did not find an entry.
+     *
+     * @return the number of cache misses.
+     */
+    public long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of entries evicted to keep the cache within its bounds.
+     *
+     * @return the number of evictions.
+     */
+    public long getEvictionCount() {
+        return evictions;
+    }
+
+    /**
+     * Returns the share of lookups that found an entry.
+     *
+     * @return the hit rate between 0 and 1, or 0 if no lookup has been performed.
+     */
+    public double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,212 @@
+package AB2;
+
+import AB2.Interfaces.Encoder;
+import AB2.Interfaces.PackedFont;
+
+import java.util.Arrays;
+
+/**
+ * The {@code PackedBrailleFont} class represents a set of printable Braille characters, which are stored as packed
+ * cells (one {@code byte} per character) and expanded to bitmaps of dot and space symbols.
+ *
+ * <p>The bitmaps of all possible packed cells are calculated once at construction time and shared by all callers,
+ * so retrieving a bitmap never allocates. Bitmaps are laid out exactly like the ones of {@code class BrailleFont}.</p>
+ * <p>Rows followed by spacing are calculated on first use of a spacing and cached per spacing, so buffers sharing
+ * the font can render with different spacings without recalculating them.</p>
+ */
+public class PackedBrailleFont implements PackedFont {
+    private final int height;   // height of characters
+    private final int width;    // width of characters (remark: font is monospaced)
+    private final char dotSymbol;
+    private final char spaceSymbol;
+
+    private final byte[] lowerCaseLetters;    // packed cells for all lowercase letters
+    private final char[][][] bitmaps;         // bitmaps for all packed cells, indexed by (cell & 0xFF)
+    private volatile char[][][][] spacedRows = new char[0][][][];  // rows followed by spacing, indexed by spacing
+
+    /**
+     * Constructs a {@code PackedBrailleFont} object and calculates the font's packed cells and bitmaps.
+     *
+     * @param height      number of lines of font's characters (bitmap height)
+     * @param width       number of columns of font's characters (bitmap width)
+     *                    <p>Precondition: ( height * width <= BrailleCell.MAX_DOTS )</p>
+     * @param dotSymbol   the character used to represent a filled cell (dot) within a character's bitmap.
+     * @param spaceSymbol the character used to represent an empty cell (space) within a character's bitmap.
+     * @param encoder     the Braille encoder used to calculate the font's packed cells at construction time.
+     *                    <p>Precondition: (encoder != null)</p>
+     */
+    public PackedBrailleFont(int height, int width, char dotSymbol, char spaceSymbol, Encoder encoder) {
+        this.height = height;
+        this.width = width;
+        this.dotSymbol = dotSymbol;
+        this.spaceSymbol = spaceSymbol;
+
+        lowerCaseLetters = new byte['z' - 'a' + 1];
+        for (char character = 'a'; character <= 'z'; character++) {
+            lowerCaseLetters[character - 'a'] = encoder.toBinary(character);
+        }
+
+        bitmaps = new char[1 << Math.min(height * width, BrailleCell.MAX_DOTS)][][];
+        for (int cell = 0; cell < bitmaps.length; cell++) {
+            bitmaps[cell] = BrailleCell.expand((byte) cell, height, width, dotSymbol, spaceSymbol);
+        }
+    }
+
+    /**
+     * Retrieves the packed cell of a given ASCII character.
+     *
+     * @param character the ASCII character for which the packed cell will be returned.
+     * @return the packed cell that corresponds to the given ASCII character.
+     * For non-letters, the packed cell of a white space ({@code 0}) is returned.
+     */
+    @Override
+    public byte getCell(char character) {
+        if (character >= 'a' && character <= 'z') {
+            return lowerCaseLetters[character - 'a'];
+        }
+        if (character >= 'A' && character <= 'Z') {
+            return lowerCaseLetters[character - 'A'];
+        }
+        return 0;
+    }
+
+    /**
+     * Retrieves the bitmap ({@code char[][]}) of a packed cell.
+     *
+     * <p>The returned bitmap is shared by all callers and must not be modified.</p>
+     *
+     * @param cell the packed cell.
+     * @return a bitmap ({@code char[][]}) containing dot and space symbols of this font.
+     */
+    @Override
+    public char[][] getBitmap(byte cell) {
+        return bitmaps[(cell & 0xFF) & (bitmaps.length - 1)];
+    }
+
+    /**
+     * Retrieves a single row of the bitmap of a packed cell.
+     *
+     * <p>The returned row is shared by all callers and must not be modified.</p>
+     *
+     * @param cell the packed cell.
+     * @param row  the zero-based row of the bitmap.
+     *             <p>Precondition: ( row >= 0 ) && ( row < getHeight() )</p>
+     * @return the row of the cell's bitmap, containing {@code getWidth()} dot and space symbols.
+     */
+    @Override
+    public char[] getGlyphRow(byte cell, int row) {
+        return bitmaps[(cell & 0xFF) & (bitmaps.length - 1)][row];
+    }
+
+    /**
+     * Retrieves a single row of the bitmap of a packed cell, followed by {@code spacing} spaces (ASCII code 32).
+     * The rows of a spacing are calculated for all cells on its first use.
+     *
+     * <p>The returned row is shared by all callers and must not be modified.</p>
+     *
+     * @param cell    the packed cell.
+     * @param row     the zero-based row of the bitmap.
+     *                <p>Precondition: ( row >= 0 ) && ( row < getHeight() )</p>
+     * @param spacing the number of spaces following the row.
+     *                <p>Precondition: ( spacing >= 0 )</p>
+     * @return the row of the cell's bitmap and the spacing, containing {@code getWidth() + spacing} characters.
+     */
+    @Override
+    public char[] getSpacedGlyphRow(byte cell, int row, int spacing) {
+        char[][][][] tables = spacedRows;
+        char[][][] rows = spacing < tables.length ? tables[spacing] : null;
+        if (rows == null) rows = addSpacedRows(spacing);
+
+        return rows[(cell & 0xFF) & (bitmaps.length - 1)][row];
+    }
+
+    /**
+     * Calculates the rows of all bitmaps, each followed by the given number of spaces, and adds them to the cache.
+     *
+     * @param spacing the number of spaces following each row.
+     * @return the spaced rows, indexed like the bitmaps.
+     */
+    private synchronized char[][][] addSpacedRows(int spacing) {
+        char[][][][] tables = spacedRows;
+        if (spacing < tables.length && tables[spacing] != null) return tables[spacing];
+
+        char[][][] rows = new char[bitmaps.length][][];
+        for (int cell = 0; cell < bitmaps.length; cell++) {
+            rows[cell] = new char[bitmaps[cell].length][];
+            for (int row = 0; row < bitmaps[cell].length; row++) {
+                char[] spaced = Arrays.copyOf(bitmaps[cell][row], width + spacing);
+                Arrays.fill(spaced, width, spaced.length, ' ');
+                rows[cell][row] = spaced;
+            }
+        }
+
+        tables = Arrays.copyOf(tables, Math.max(tables.length, spacing + 1));
+        tables[spacing] = rows;
+        spacedRows = tables;
+        return rows;
+    }
+
+    /**
+     * Retrieves a bitmap ({@code char[][]}) of a given ASCII character.
+     *
+     * @param character the ASCII character for which a printable character will be returned.
+     * @return a bitmap ({@code char[][]}) that corresponds to the given ASCII character.
+     * For non-letters, it returns the representation of a white space.
+     */
+    @Override
+    public char[][] getBitmap(char character) {
+        return getBitmap(getCell(character));
+    }
+
+    /**
+     * Packs a bitmap of this font into its binary representation.
+     *
+     * @param bitmap the bitmap of a Braille character of this font.
+     *               <p>Precondition: ( bitmap != null )</p>
+     * @return the packed cell of the bitmap.
+     */
+    @Override
+    public byte pack(char[][] bitmap) {
+        return BrailleCell.pack(bitmap, dotSymbol);
+    }
+
+    /**
+     * Returns the character used to represent a filled cell (dot).
+     *
+     * @return the dot symbol of this font.
+     */
+    @Override
+    public char getDotSymbol() {
+        return dotSymbol;
+    }
+
+    /**
+     * Returns the character used to represent an empty cell (space).
+     *
+     * @return the space symbol of this font.
+     */
+    @Override
+    public char getSpaceSymbol() {
+        return spaceSymbol;
+    }
+
+    /**
+     * Returns the font's height.
+     *
+     * @return the number of rows of a character's bitmap.
+     */
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the font's width (the font is monospaced).
+     *
+     * @return the number of columns of a character's bitmap.
+     */
+    @Override
+    public int getWidth() {
+        return width;
+    }
+}
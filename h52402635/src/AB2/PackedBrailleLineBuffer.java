@@ -0,0 +1,477 @@
+package AB2;
+
+import AB2.Interfaces.CapacityPolicy;
+import AB2.Interfaces.PackedFont;
+import AB2.Interfaces.PackedLineBuffer;
+
+import java.nio.CharBuffer;
+
+/**
+ * The {@code PackedBrailleLineBuffer} class implements a line buffer, which stores Braille characters as packed
+ * cells (one {@code byte} per character) instead of bitmap references.
+ *
+ * <p>The buffer behaves exactly like {@code class BrailleLineBuffer} (it grows and shrinks as decided by a
+ * {@code CapacityPolicy}, {@code GeometricCapacityPolicy} by default), but bitmaps are packed on insertion and
+ * expanded with the buffer's font only when they are retrieved or rendered. Since the buffer is a plain
+ * {@code byte[]}, it can be copied with {@code System.arraycopy()}.</p>
+ */
+public class PackedBrailleLineBuffer implements PackedLineBuffer {
+    private byte[] buffer;  // packed cells representing the text line
+
+    private final PackedFont font;  // font used to pack and expand cells
+    private final int initialSize;
+    private final CapacityPolicy capacityPolicy;
+    private int count;
+
+    /**
+     * Constructs a {@code PackedBrailleLineBuffer} object.
+     *
+     * @param font           the font used to pack bitmaps and to expand packed cells.
+     *                       <p>Preconditions: ( font != null )</p>
+     * @param initialSize    the initial size of the buffer.
+     * @param growthFactor   factor by which the buffer is expanded, if it is full but a new Braille character
+     *                       has to be added
+     *                       <p>Preconditions: ( growthFactor > 1 )</p>
+     * @param reductionRatio denotes a ratio (number of characters stored in buffer divided by size of buffer). If the
+     *                       real ratio after a delete operation falls below this value, the buffer will be shrunk.
+     *                       <p>Preconditions: ( reductionRatio < 1 ) </p>
+     */
+    public PackedBrailleLineBuffer(PackedFont font, int initialSize, double growthFactor, double reductionRatio) {
+        this(font, initialSize, new GeometricCapacityPolicy(initialSize, growthFactor, reductionRatio));
+    }
+
+    /**
+     * Constructs a {@code PackedBrailleLineBuffer} object, which grows and shrinks as decided by the given policy.
+     *
+     * @param font           the font used to pack bitmaps and to expand packed cells.
+     *                       <p>Preconditions: ( font != null )</p>
+     * @param initialSize    the initial size of the buffer.
+     * @param capacityPolicy the policy computing new buffer sizes. It must not be shared with other buffers.
+     *                       <p>Preconditions: ( capacityPolicy != null )</p>
+     */
+    public PackedBrailleLineBuffer(PackedFont font, int initialSize, CapacityPolicy capacityPolicy) {
+        this.font = font;
+        this.initialSize = initialSize;
+        this.capacityPolicy = capacityPolicy;
+
+        buffer = new byte[initialSize];
+    }
+
+    /**
+     * Method retrieves the number of Braille characters that can be stored in the internal buffer (buffer space).
+     *
+     * @return size of buffer
+     */
+    @Override
+    public int size() {
+        return buffer.length;
+    }
+
+    /**
+     * Method retrieves the number of characters stored within the buffer.
+     *
+     * @return number of Braille characters currently stored within the buffer
+     */
+    @Override
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Method expands the internal buffer, if it is full. The new buffer size is computed by the capacity policy,
+     * by default as {@code newSize = (int)Math.ceil(currentSize * growthFactor)}.
+     */
+    @Override
+    public void expandBuffer() {
+        if (buffer.length > count) return;
+
+        resize(capacityPolicy.grow(size(), count + 1));
+    }
+
+    /**
+     * Method expands the internal buffer, so that it can store at least the given number of characters without
+     * further expansion. The size grows as decided by the capacity policy, just as if the characters were pushed
+     * one by one, but the content is copied only once.
+     *
+     * @param capacity the number of characters the buffer must be able to store.
+     */
+    @Override
+    public void ensureCapacity(int capacity) {
+        if (buffer.length >= capacity) return;
+
+        resize(capacityPolicy.grow(size(), capacity));
+    }
+
+    /**
+     * Method reduces the size of the internal buffer, if the capacity policy asks for it (by default, if its usage
+     * ratio is lower than the reduction ratio). The default policy computes the new size as
+     * {@code newSize = Math.ceil(count() * growthFactor)}.
+     */
+    @Override
+    public void reduceBuffer() {
+        int newSize = capacityPolicy.shrink(size(), count);
+
+        if (newSize != size()) resize(newSize);
+    }
+
+    /**
+     * Replaces the internal buffer by one of the given size, preserving the stored cells.
+     *
+     * @param newSize the new size of the buffer.
+     *                <p>Precondition: ( newSize >= count )</p>
+     */
+    private void resize(int newSize) {
+        byte[] newBuffer = new byte[newSize];
+        System.arraycopy(buffer, 0, newBuffer, 0, count);
+        buffer = newBuffer;
+    }
+
+    /**
+     * Method pushes (appends) a Braille character to the end of the internal buffer, packing its bitmap with the
+     * buffer's font.
+     *
+     * <p>If the buffer is full, it expands its size before appending the new cell.</p>
+     *
+     * @param bitmap the bitmap representation of a Braille character to be appended to the buffer.
+     *               Precondition: ( bitmap != null )
+     */
+    @Override
+    public void push(char[][] bitmap) {
+        pushCell(font.pack(bitmap));
+    }
+
+    /**
+     * Method pushes (appends) a packed cell to the end of the internal buffer.
+     *
+     * <p>If the buffer is full, it expands its size before appending the new cell.</p>
+     *
+     * @param cell the packed cell to be appended to the buffer.
+     */
+    @Override
+    public void pushCell(byte cell) {
+        expandBuffer();
+
+        buffer[count] = cell;
+        count++;
+    }
+
+    /**
+     * Method pushes (appends) a range of bitmaps to the end of the internal buffer, expanding it at most once.
+     *
+     * @param bitmaps the bitmap representations of Braille characters to be appended to the buffer.
+     *                Precondition: ( bitmaps != null ) and no bitmap within the range is {@code null}
+     * @param offset  the index of the first bitmap within {@code bitmaps} to be appended.
+     * @param length  the number of bitmaps to be appended.
+     */
+    @Override
+    public void pushAll(char[][][] bitmaps, int offset, int length) {
+        ensureCapacity(count + length);
+
+        for (int i = 0; i < length; i++) {
+            buffer[count++] = font.pack(bitmaps[offset + i]);
+        }
+    }
+
+    /**
+     * Method pushes (appends) a range of packed cells to the end of the internal buffer with a single
+     * {@code System.arraycopy()}, expanding it at most once.
+     *
+     * @param cells  the packed cells to be appended.
+     * @param offset the index of the first cell within {@code cells} to be appended.
+     * @param length the number of cells to be appended.
+     */
+    @Override
+    public void pushCells(byte[] cells, int offset, int length) {
+        ensureCapacity(count + length);
+
+        System.arraycopy(cells, offset, buffer, count, length);
+        count += length;
+    }
+
+    /**
+     * Method retrieves the last Braille character from the internal buffer. If the buffer is empty,
+     * {@code null} is returned instead. If a character was found, it is removed from the buffer and the buffer
+     * might be shrunk.
+     *
+     * @return {@code null} if buffer is empty, or the (shared) bitmap of the character at the end of the buffer.
+     */
+    @Override
+    public char[][] pop() {
+        if (count == 0) return null;
+
+        count--;
+        byte cell = buffer[count];
+
+        reduceBuffer();
+
+        return font.getBitmap(cell);
+    }
+
+    /**
+     * Method retrieves the (shared) bitmap of the Braille character at the specified position without removing it.
+     *
+     * @param position the index of the character.
+     * @return the bitmap at the specified position, or {@code null} if the position is invalid.
+     */
+    @Override
+    public char[][] get(int position) {
+        if (position < 0 || position >= count) return null;
+
+        return font.getBitmap(buffer[position]);
+    }
+
+    /**
+     * Method inserts a Braille character into the internal buffer at specified position by shifting all existing
+     * characters at and right of the specified position to the right (next index). The bitmap is packed with the
+     * buffer's font.
+     *
+     * @param cursorPosition the index at which the character has to be inserted.
+     *                       If the position is invalid (negative or outside the range of stored characters),
+     *                       no insertion is performed.
+     * @param bitmap         the bitmap representation of a Braille character to be inserted.
+     *                       Precondition: ( bitmap != null )
+     * @return {@code true} if the character was successfully inserted,
+     * {@code false} otherwise (e.g., invalid position or empty buffer).
+     */
+    @Override
+    public boolean insert(int cursorPosition, char[][] bitmap) {
+        return insertCell(cursorPosition, font.pack(bitmap));
+    }
+
+    /**
+     * Method inserts a packed cell into the internal buffer at specified position by shifting all existing
+     * characters at and right of the specified position to the right (next index).
+     *
+     * <p>If the buffer is full, it expands its size before inserting the new cell.</p>
+     *
+     * @param cursorPosition the index at which the cell has to be inserted.
+     *                       If the position is invalid (negative or outside the range of stored characters),
+     *                       no insertion is performed.
+     * @param cell           the packed cell to be inserted.
+     * @return {@code true} if the cell was successfully inserted,
+     * {@code false} otherwise (e.g., invalid position or empty buffer).
+     */
+    @Override
+    public boolean insertCell(int cursorPosition, byte cell) {
+        if (cursorPosition >= count || cursorPosition < 0)
+            return false;
+
+        expandBuffer();
+
+        System.arraycopy(buffer, cursorPosition, buffer, cursorPosition + 1, count - cursorPosition);
+        buffer[cursorPosition] = cell;
+
+        count++;
+        return true;
+    }
+
+    /**
+     * Method inserts a range of bitmaps at the specified position. The cells after the position are shifted
+     * once, and the buffer is expanded at most once.
+     *
+     * @param position the index at which the first bitmap has to be inserted ( {@code position == count()} appends).
+     * @param bitmaps  the bitmap representations of Braille characters to be inserted.
+     *                 Precondition: ( bitmaps != null ) and no bitmap within the range is {@code null}
+     * @param offset   the index of the first bitmap within {@code bitmaps} to be inserted.
+     * @param length   the number of bitmaps to be inserted.
+     * @return {@code true} if the bitmaps were inserted, {@code false} if the position is invalid.
+     */
+    @Override
+    public boolean insertAll(int position, char[][][] bitmaps, int offset, int length) {
+        if (position > count || position < 0)
+            return false;
+
+        ensureCapacity(count + length);
+
+        System.arraycopy(buffer, position, buffer, position + length, count - position);
+        for (int i = 0; i < length; i++) {
+            buffer[position + i] = font.pack(bitmaps[offset + i]);
+        }
+
+        count += length;
+        return true;
+    }
+
+    /**
+     * Method deletes the characters in the range {@code [from, to)}. The cells after the range are shifted
+     * to the left once and the buffer is reduced at most once afterwards.
+     *
+     * @param from the index of the first character to be deleted.
+     * @param to   the index after the last character to be deleted.
+     * @return {@code true} if the range was deleted, {@code false} if it is invalid.
+     */
+    @Override
+    public boolean deleteRange(int from, int to) {
+        if (from < 0 || to > count || from > to)
+            return false;
+        if (from == to) return true;
+
+        System.arraycopy(buffer, to, buffer, from, count - to);
+
+        count -= to - from;
+        reduceBuffer();
+        return true;
+    }
+
+    /**
+     * Method deletes a Braille character at the specified position in the buffer.
+     * Shifts the cells located after the specified position one step to the left.
+     *
+     * <p>Checks if buffer can be reduced after successful deletion of a character.</p>
+     *
+     * @param cursorPosition the index of the character to be deleted.
+     *                       If the position is invalid (negative or outside the range of stored characters),
+     *                       no deletion is performed.
+     * @return {@code true} if the character was successfully deleted,
+     * {@code false} otherwise (e.g., invalid position or empty buffer).
+     */
+    @Override
+    public boolean delete(int cursorPosition) {
+        if (cursorPosition >= count || cursorPosition < 0)
+            return false;
+
+        System.arraycopy(buffer, cursorPosition + 1, buffer, cursorPosition, count - (cursorPosition + 1));
+
+        count--;
+        reduceBuffer();
+        return true;
+    }
+
+    /**
+     * Method retrieves the packed cell at the specified position.
+     *
+     * @param index the index of the cell.
+     * @return the packed cell at the specified position, or {@code -1} if the position is invalid.
+     */
+    @Override
+    public byte getCell(int index) {
+        if (index < 0 || index >= count) return -1;
+
+        return buffer[index];
+    }
+
+    /**
+     * Method copies a range of packed cells into the given array with a single {@code System.arraycopy()}.
+     *
+     * @param sourcePosition the index of the first cell to be copied.
+     * @param destination    the array the cells are copied to.
+     * @param destPosition   the index within {@code destination} the first cell is copied to.
+     * @param length         the maximum number of cells to be copied.
+     * @return the number of cells actually copied, which is {@code 0} if {@code sourcePosition} is invalid.
+     */
+    @Override
+    public int copyCells(int sourcePosition, byte[] destination, int destPosition, int length) {
+        if (sourcePosition < 0 || sourcePosition >= count) return 0;
+
+        int copied = Math.min(length, count - sourcePosition);
+        System.arraycopy(buffer, sourcePosition, destination, destPosition, copied);
+        return copied;
+    }
+
+    /**
+     * Method clears the content of the buffer.
+     * <p>The buffer is reinitialized with its initial size, while the count of currently stored characters
+     * is reset to zero.</p>
+     */
+    @Override
+    public void clearBuffer() {
+        buffer = new byte[initialSize];
+        count = 0;
+    }
+
+    /**
+     * Renders the contents of the buffer into an array of strings, each representing a scanline.
+     * Packed cells are expanded to the font's dot and space symbols.
+     *
+     * @param spacing the number of spaces (ASCII code 32) to insert between consecutive characters from the buffer
+     *                in the rendered output.
+     *                Precondition: (spacing >= 0)
+     * @return an array of strings, where each string represents a scanline of the combined buffered characters.
+     * Returns {@code null} if the buffer is empty.
+     */
+    @Override
+    public String[] renderScanlines(int spacing) {
+        int height = scanlineCount();
+        if (height == 0) return null;
+
+        char[][] rows = new char[height][scanlineLength(spacing)];
+        renderScanlines(spacing, rows);
+
+        String[] result = new String[height];
+        for (int i = 0; i < height; i++) {
+            result[i] = new String(rows[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Method retrieves the number of scanlines (rows) a rendering of the buffer consists of.
+     *
+     * @return the height of the font, or {@code 0} if the buffer is empty.
+     */
+    @Override
+    public int scanlineCount() {
+        return count == 0 ? 0 : font.getHeight();
+    }
+
+    /**
+     * Method retrieves the length of each scanline rendered with the given spacing.
+     *
+     * @param spacing the number of spaces between consecutive characters.
+     *                Precondition: (spacing >= 0)
+     * @return {@code count() * (width + spacing) - spacing}, or {@code 0} if the buffer is empty.
+     */
+    @Override
+    public int scanlineLength(int spacing) {
+        return count == 0 ? 0 : count * (font.getWidth() + spacing) - spacing;
+    }
+
+    /**
+     * Renders the contents of the buffer into the given rows by copying the font's shared glyph rows with
+     * {@code System.arraycopy()}. No memory is allocated.
+     *
+     * @param spacing the number of spaces (ASCII code 32) to insert between consecutive characters.
+     *                Precondition: (spacing >= 0)
+     * @param target  the rows the scanlines are written to, starting at column 0.
+     *                <p>Precondition: ( target.length >= scanlineCount() ) and each row holds at least
+     *                {@code scanlineLength(spacing)} characters</p>
+     * @return the number of characters written to each row.
+     */
+    @Override
+    public int renderScanlines(int spacing, char[][] target) {
+        int height = scanlineCount();
+        int width = font.getWidth();
+
+        for (int i = 0; i < height; i++) {
+            char[] row = target[i];
+            int column = 0;
+
+            for (int j = 0; j < count - 1; j++, column += width + spacing) {
+                System.arraycopy(font.getSpacedGlyphRow(buffer[j], i, spacing), 0, row, column, width + spacing);
+            }
+            System.arraycopy(font.getGlyphRow(buffer[count - 1], i), 0, row, column, width);
+        }
+        return scanlineLength(spacing);
+    }
+
+    /**
+     * Renders a single scanline of the buffer into the given {@code CharBuffer}, starting at its current position.
+     * No memory is allocated.
+     *
+     * @param row     the zero-based index of the scanline.
+     *                <p>Precondition: ( row >= 0 ) && ( row < scanlineCount() )</p>
+     * @param spacing the number of spaces (ASCII code 32) to insert between consecutive characters.
+     *                Precondition: (spacing >= 0)
+     * @param target  the buffer the scanline is written to.
+     *                <p>Precondition: ( target.remaining() >= scanlineLength(spacing) )</p>
+     */
+    @Override
+    public void renderScanline(int row, int spacing, CharBuffer target) {
+        if (count == 0) return;
+
+        for (int j = 0; j < count - 1; j++) {
+            target.put(font.getSpacedGlyphRow(buffer[j], row, spacing));
+        }
+        target.put(font.getGlyphRow(buffer[count - 1], row));
+    }
+}
@@ -0,0 +1,197 @@
+package AB2;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+
+/**
+ * The {@code ParagraphLayout} class lays out text of arbitrary length into Braille rows of a fixed width
+ * (number of Braille characters per row) and writes them through an {@code AdvancedLinePrinter}.
+ *
+ * <p>Words are separated by whitespace; a blank line (two consecutive line breaks) ends a paragraph, and each
+ * paragraph starts on a new row. Words longer than a row are split across rows. These rules are implemented by
+ * {@code RowBreaker}, which is shared with {@code BrailleDocument}.</p>
+ * <p>By default, rows are filled greedily: the text is processed in a single pass, and only the current row and
+ * the text read since its start are held in memory. Optionally, each paragraph can be laid out with minimum
+ * raggedness (minimizing the sum of squared gaps at the end of all rows but the last), which requires holding one
+ * paragraph in memory.</p>
+ */
+public class ParagraphLayout {
+    private static final int CHUNK_SIZE = 1024;
+
+    private final AdvancedLinePrinter printer;
+    private final int width;
+    private boolean minimumRaggedness;
+
+    private Appendable out;             // sink of the current layout() call
+    private long rows;                  // number of rows written by the current layout() call
+    private final StringBuilder line = new StringBuilder();
+    private final ArrayList<String> paragraph = new ArrayList<>();  // words of the paragraph (minimum raggedness)
+
+    /**
+     * Constructs a {@code ParagraphLayout} object.
+     *
+     * @param printer the printer used to render and write the rows. Its line buffer is flushed after each row.
+     *                <p>Precondition: ( printer != null )</p>
+     * @param width   the number of Braille characters per row.
+     *                <p>Precondition: ( width > 0 )</p>
+     */
+    public ParagraphLayout(AdvancedLinePrinter printer, int width) {
+        this.printer = printer;
+        this.width = width;
+    }
+
+    /**
+     * Enables or disables minimum raggedness layout of paragraphs. Disabled by default.
+     *
+     * @param minimumRaggedness {@code true} to lay out each paragraph with minimum raggedness,
+     *                          {@code false} to fill rows greedily.
+     */
+    public void setMinimumRaggedness(boolean minimumRaggedness) {
+        this.minimumRaggedness = minimumRaggedness;
+    }
+
+    /**
+     * Lays out the given text and writes the rows to the given sink (see {@code AdvancedLinePrinter.flush()}).
+     *
+     * @param text the text to be laid out.
+     *             <p>Precondition: ( text != null )</p>
+     * @param out  the sink the rows are written to.
+     *             <p>Precondition: ( out != null )</p>
+     * @return the number of rows written.
+     * @throws IOException if writing to the sink fails.
+     */
+    public long layout(CharSequence text, Appendable out) throws IOException {
+        begin(out);
+        layout(text, 0, true);
+        return end();
+    }
+
+    /**
+     * Lays out all text provided by a reader and writes the rows to the given sink
+     * (see {@code AdvancedLinePrinter.flush()}). The reader is read in chunks and is not closed.
+     *
+     * @param text the source of the text to be laid out.
+     *             <p>Precondition: ( text != null )</p>
+     * @param out  the sink the rows are written to.
+     *             <p>Precondition: ( out != null )</p>
+     * @return the number of rows written.
+     * @throws IOException if reading from the reader or writing to the sink fails.
+     */
+    public long layout(Reader text, Appendable out) throws IOException {
+        char[] chunk = new char[CHUNK_SIZE];
+        StringBuilder pending = new StringBuilder();  // text not laid out yet
+        int read;
+
+        begin(out);
+        while ((read = text.read(chunk, 0, chunk.length)) != -1) {
+            pending.append(chunk, 0, read);
+            pending.delete(0, layout(pending, 0, false));
+        }
+        layout(pending, 0, true);
+        return end();
+    }
+
+    private void begin(Appendable out) {
+        this.out = out;
+        rows = 0;
+        line.setLength(0);
+        paragraph.clear();
+    }
+
+    private long end() throws IOException {
+        if (minimumRaggedness)
+            layoutParagraph();
+        out = null;
+        return rows;
+    }
+
+    /**
+     * Lays out the text following the given offset. Unless {@code last} is set, the text may continue, so a row
+     * (or a word) reaching the end of the text is left for the next call.
+     *
+     * @return the text offset of the first character not laid out yet.
+     */
+    private int layout(CharSequence text, int offset, boolean last) throws IOException {
+        if (minimumRaggedness)
+            return collectWords(text, offset, last);
+
+        while (true) {
+            int next = RowBreaker.nextRow(text, offset, width, line);
+            if (line.length() == 0) return next;
+            if (next == text.length() && !last) {
+                line.setLength(0);
+                return offset;
+            }
+
+            writeLine();
+            offset = next;
+        }
+    }
+
+    /**
+     * Adds the words following the given offset to the current paragraph and lays out each completed paragraph.
+     *
+     * @return the text offset of the first character not laid out yet.
+     */
+    private int collectWords(CharSequence text, int offset, boolean last) throws IOException {
+        offset = RowBreaker.skipWhitespace(text, offset);
+
+        while (offset < text.length()) {
+            int end = RowBreaker.wordEnd(text, offset, width);
+            int next = RowBreaker.skipWhitespace(text, end);
+            if (next == text.length() && !last) return offset;
+
+            paragraph.add(text.subSequence(offset, end).toString());
+            if (RowBreaker.isParagraphBreak(text, end, next))
+                layoutParagraph();
+            offset = next;
+        }
+        return offset;
+    }
+
+    /**
+     * Lays out the words of the current paragraph with minimum raggedness, i.e. with the minimum sum of squared
+     * gaps at the end of all rows but the last.
+     */
+    private void layoutParagraph() throws IOException {
+        int n = paragraph.size();
+        long[] cost = new long[n + 1];  // minimum cost of laying out words i..n-1
+        int[] next = new int[n + 1];    // first word of the row following the row starting with word i
+
+        for (int i = n - 1; i >= 0; i--) {
+            cost[i] = Long.MAX_VALUE;
+            int length = -1;
+
+            for (int j = i; j < n; j++) {
+                length += 1 + paragraph.get(j).length();
+                if (length > width && j > i) break;
+
+                long gap = width - length;
+                long total = j == n - 1 ? 0 : gap * gap + cost[j + 1];
+                if (total < cost[i]) {
+                    cost[i] = total;
+                    next[i] = j + 1;
+                }
+            }
+        }
+
+        for (int i = 0; i < n; i = next[i]) {
+            for (int j = i; j < next[i]; j++) {
+                if (j > i) line.append(' ');
+                line.append(paragraph.get(j));
+            }
+            writeLine();
+        }
+        paragraph.clear();
+    }
+
+    private void writeLine() throws IOException {
+        if (line.length() == 0) return;
+
+        printer.printString(line);
+        printer.flush(out);
+        line.setLength(0);
+        rows++;
+    }
+}
@@ -0,0 +1,37 @@
+package AB2;
+
+import AB2.Interfaces.CapacityPolicy;
+
+/**
+ * Capacity policy that keeps the buffer size at powers of two. The buffer is doubled when it is full and halved
+ * when at most a quarter of it is used, so that a resize is always followed by at least {@code size / 4}
+ * additions or removals before the next one.
+ */
+public class PowerOfTwoCapacityPolicy implements CapacityPolicy {
+    private final int initialSize;
+
+    /**
+     * Constructs a {@code PowerOfTwoCapacityPolicy} object.
+     *
+     * @param initialSize the size the buffer is never shrunk below.
+     */
+    public PowerOfTwoCapacityPolicy(int initialSize) {
+        this.initialSize = initialSize;
+    }
+
+    @Override
+    public int grow(int size, int required) {
+        if (size >= required) return size;
+
+        int newSize = Integer.highestOneBit(Math.max(required - 1, 1)) << 1;
+        return newSize > 0 ? newSize : Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int shrink(int size, int count) {
+        int newSize = Integer.highestOneBit(Math.max(size, 1)) >> 1;
+        if (count > size / 4 || newSize < initialSize || newSize < count) return size;
+
+        return newSize;
+    }
+}
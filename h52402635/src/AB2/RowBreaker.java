@@ -0,0 +1,92 @@
+package AB2;
+
+/**
+ * The {@code RowBreaker} class holds the word wrap rules shared by {@code ParagraphLayout} and
+ * {@code BrailleDocument}.
+ *
+ * <p>Words are separated by whitespace; a blank line (a run of whitespace holding at least two line breaks) ends
+ * a paragraph, and each paragraph starts on a new row. Words longer than a row are split into parts of one row
+ * each. Rows are filled greedily: a row ends before a word that does not fit.</p>
+ */
+final class RowBreaker {
+
+    private RowBreaker() {
+    }
+
+    /**
+     * Fills a row greedily with the words following the given offset. A row ends before a word that does not fit,
+     * or at the end of a paragraph.
+     *
+     * @param text   the text to be wrapped.
+     * @param offset the text offset the row starts at.
+     * @param width  the number of characters per row.
+     *               <p>Precondition: ( width > 0 )</p>
+     * @param row    receives the text of the row, which remains empty if no words follow.
+     *               <p>Precondition: ( row.length() == 0 )</p>
+     * @return the text offset the next row starts at.
+     */
+    static int nextRow(CharSequence text, int offset, int width, StringBuilder row) {
+        int length = text.length();
+        offset = skipWhitespace(text, offset);
+
+        while (offset < length) {
+            int end = wordEnd(text, offset, width);
+            if (row.length() > 0 && row.length() + 1 + (end - offset) > width) return offset;
+
+            if (row.length() > 0) row.append(' ');
+            row.append(text, offset, end);
+
+            offset = skipWhitespace(text, end);
+            if (isParagraphBreak(text, end, offset)) return offset;
+        }
+        return offset;
+    }
+
+    /**
+     * Returns the end of the word (or the part of a word) starting at the given offset. A word longer than a row
+     * ends after {@code width} characters.
+     *
+     * @param text   the text to be wrapped.
+     * @param offset the text offset of the first character of the word.
+     * @param width  the number of characters per row.
+     * @return the text offset after the last character of the word.
+     */
+    static int wordEnd(CharSequence text, int offset, int width) {
+        int end = offset;
+        int limit = Math.min(text.length(), offset + width);
+        while (end < limit && !Character.isWhitespace(text.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Returns the offset of the first non-whitespace character at or after the given offset.
+     *
+     * @param text   the text to be wrapped.
+     * @param offset the text offset to start at.
+     * @return the offset of the next non-whitespace character, or the length of the text.
+     */
+    static int skipWhitespace(CharSequence text, int offset) {
+        while (offset < text.length() && Character.isWhitespace(text.charAt(offset))) {
+            offset++;
+        }
+        return offset;
+    }
+
+    /**
+     * Checks whether the whitespace between two words ends a paragraph.
+     *
+     * @param text the text to be wrapped.
+     * @param from the text offset after the first word.
+     * @param to   the text offset of the second word.
+     * @return {@code true} if the range {@code [from, to)} holds at least two line breaks.
+     */
+    static boolean isParagraphBreak(CharSequence text, int from, int to) {
+        int lineBreaks = 0;
+        for (int i = from; i < to; i++) {
+            if (text.charAt(i) == '\n' && ++lineBreaks == 2) return true;
+        }
+        return false;
+    }
+}
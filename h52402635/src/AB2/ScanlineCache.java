@@ -0,0 +1,146 @@
+package AB2;
+
+import AB2.Interfaces.Font;
+
+/**
+ * The {@code ScanlineCache} class stores rendered scanlines of strings, so that frequently printed strings
+ * (labels, status words, ...) do not have to be rendered again.
+ *
+ * <p>Entries are keyed by text, font (by identity) and spacing. The cache is bounded by a maximum number of
+ * entries and a maximum number of bytes (an estimate of the memory occupied by the scanlines); when either bound is
+ * exceeded, the least recently used entries are evicted (see {@code LruCache}). Hits, misses and evictions are
+ * counted.</p>
+ * <p>The cache is thread-safe and can be shared between printers.</p>
+ */
+public class ScanlineCache {
+    private static final int ENTRY_OVERHEAD = 64;   // estimated bytes of key, array and map entry objects
+
+    private final LruCache<Key, String[]> entries;
+
+    /**
+     * Key of a cache entry.
+     */
+    private static final class Key {
+        private final String text;
+        private final Font font;
+        private final int spacing;
+
+        private Key(String text, Font font, int spacing) {
+            this.text = text;
+            this.font = font;
+            this.spacing = spacing;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) return false;
+            Key key = (Key) other;
+            return font == key.font && spacing == key.spacing && text.equals(key.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return (text.hashCode() * 31 + System.identityHashCode(font)) * 31 + spacing;
+        }
+    }
+
+    /**
+     * Constructs an empty {@code ScanlineCache} object.
+     *
+     * @param maxEntries the maximum number of cached strings.
+     *                   <p>Precondition: ( maxEntries > 0 )</p>
+     * @param maxBytes   the maximum estimated number of bytes occupied by the cached scanlines.
+     *                   <p>Precondition: ( maxBytes > 0 )</p>
+     */
+    public ScanlineCache(int maxEntries, long maxBytes) {
+        entries = new LruCache<>(maxEntries, maxBytes, (key, scanlines) -> sizeOf(key.text, scanlines));
+    }
+
+    /**
+     * Retrieves the cached scanlines of a string and marks the entry as most recently used.
+     *
+     * <p>The returned array is shared by all callers and must not be modified.</p>
+     *
+     * @param text    the rendered string.
+     * @param font    the font used for rendering.
+     * @param spacing the spacing used for rendering.
+     * @return the cached scanlines, or {@code null} if the string is not cached.
+     */
+    public synchronized String[] get(String text, Font font, int spacing) {
+        return entries.get(new Key(text, font, spacing));
+    }
+
+    /**
+     * Stores the scanlines of a string, evicting least recently used entries as required by the bounds.
+     * Scanlines exceeding the byte bound on their own are not stored.
+     *
+     * @param text      the rendered string.
+     * @param font      the font used for rendering.
+     * @param spacing   the spacing used for rendering.
+     * @param scanlines the scanlines of the string, which must not be modified afterwards.
+     *                  <p>Precondition: ( scanlines != null )</p>
+     */
+    public synchronized void put(String text, Font font, int spacing, String[] scanlines) {
+        entries.put(new Key(text, font, spacing), scanlines);
+    }
+
+    private static long sizeOf(String text, String[] scanlines) {
+        long size = ENTRY_OVERHEAD + 2L * text.length();
+        for (String scanline : scanlines) {
+            size += ENTRY_OVERHEAD + 2L * scanline.length();
+        }
+        return size;
+    }
+
+    /**
+     * Removes all cached scanlines, keeping the hit, miss and eviction counts.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of cached strings.
+     *
+     * @return the number of entries.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the estimated number of bytes occupied by the cached scanlines.
+     *
+     * @return the estimated size of all entries in bytes.
+     */
+    public synchronized long byteSize() {
+        return entries.weight();
+    }
+
+    /**
+     * Returns the number of lookups that found an entry.
+     *
+     * @return the number of cache hits.
+     */
+    public synchronized long getHitCount() {
+        return entries.getHitCount();
+    }
+
+    /**
+     * Returns the number of lookups that did not find an entry.
+     *
+     * @return the number of cache misses.
+     */
+    public synchronized long getMissCount() {
+        return entries.getMissCount();
+    }
+
+    /**
+     * Returns the number of entries evicted to keep the cache within its bounds.
+     *
+     * @return the number of evictions.
+     */
+    public synchronized long getEvictionCount() {
+        return entries.getEvictionCount();
+    }
+}
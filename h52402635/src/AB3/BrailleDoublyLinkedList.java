@@ -0,0 +1,481 @@
+package AB3;
+
+import AB3.Interfaces.BidirectionalListCursor;
+import AB3.Interfaces.CursorList;
+import AB3.Interfaces.List;
+import AB3.Interfaces.SpliceList;
+import AB3.Provided.ListNode;
+
+/**
+ * A doubly linked list for storing {@code ListNode} elements.
+ *
+ * <p>In contrast to {@code BrailleLinkedList}, every node also references its predecessor, so the last node is
+ * removed in O(1). Indexed access starts at the head, the tail or the most recently accessed node, whichever is
+ * closest to the requested index, so editing near the end of the list or near the last edit position is cheap.</p>
+ *
+ * <p>The list stores {@code DoublyLinkedNode} objects. A plain {@code ListNode} passed to this list is replaced by
+ * a {@code DoublyLinkedNode} holding the same bitmap, so the nodes returned by this list are not necessarily the
+ * nodes that were added. The {@code next} references of all nodes are maintained as in a singly linked list.</p>
+ */
+public class BrailleDoublyLinkedList implements List, CursorList, SpliceList {
+    private DoublyLinkedNode head;
+    private DoublyLinkedNode tail;
+    private int currentSize;
+
+    private DoublyLinkedNode finger;    // most recently accessed node (or null)
+    private int fingerIndex;            // index of the finger node
+
+    private int lastHops;               // node hops of the most recent indexed operation
+    private long totalHops;             // node hops since construction or the last call of resetHops()
+
+    /**
+     * Constructor initializes an empty BrailleDoublyLinkedList.
+     */
+    public BrailleDoublyLinkedList() {
+        head = tail = finger = null;
+        currentSize = 0;
+    }
+
+    /**
+     * Returns the given node as {@code DoublyLinkedNode}, creating one with the same bitmap if necessary.
+     */
+    private static DoublyLinkedNode toDoublyLinked(ListNode node) {
+        if (node instanceof DoublyLinkedNode) return (DoublyLinkedNode) node;
+
+        return new DoublyLinkedNode(node.getBitmap());
+    }
+
+    private static DoublyLinkedNode next(DoublyLinkedNode node) {
+        return (DoublyLinkedNode) node.getNext();
+    }
+
+    /**
+     * Retrieves the node at the specified index by walking from the head, the tail or the finger, whichever is
+     * closest, and moves the finger to the node.
+     *
+     * @param index the zero-based position of the node.
+     *              <p>Precondition: ( index >= 0 ) && ( index < size() )</p>
+     * @return the node at the specified index.
+     */
+    private DoublyLinkedNode node(int index) {
+        DoublyLinkedNode node = head;
+        int position = 0;
+
+        if (currentSize - 1 - index < index) {
+            node = tail;
+            position = currentSize - 1;
+        }
+        if (finger != null && Math.abs(fingerIndex - index) < Math.abs(position - index)) {
+            node = finger;
+            position = fingerIndex;
+        }
+
+        lastHops = Math.abs(index - position);
+        totalHops += lastHops;
+
+        for (; position < index; position++) node = next(node);
+        for (; position > index; position--) node = node.getPrevious();
+
+        finger = node;
+        fingerIndex = index;
+        return node;
+    }
+
+    /**
+     * Returns the number of node hops the most recent indexed operation ({@code get}, {@code insert},
+     * {@code remove} or {@code cursor}) took.
+     *
+     * @return the number of hops of the most recent indexed operation.
+     */
+    public int getLastHops() {
+        return lastHops;
+    }
+
+    /**
+     * Returns the number of node hops of all operations since construction or the last call of {@code resetHops()}.
+     *
+     * @return the total number of hops.
+     */
+    public long getTotalHops() {
+        return totalHops;
+    }
+
+    /**
+     * Resets the hop counters.
+     */
+    public void resetHops() {
+        lastHops = 0;
+        totalHops = 0;
+    }
+
+    @Override
+    public int size() {
+        return currentSize;
+    }
+
+    /**
+     * Adds the specified {@code ListNode} at the beginning of the linked list.
+     *
+     * @param newNode the {@code ListNode} to be added at the beginning of the list.
+     *                If {@code newNode} is {@code null}, the method does nothing.
+     */
+    @Override
+    public void addFirst(ListNode newNode) {
+        if (newNode == null) return;
+
+        DoublyLinkedNode node = toDoublyLinked(newNode);
+        node.setPrevious(null);
+        node.setNext(head);
+
+        if (head != null)
+            head.setPrevious(node);
+        else
+            tail = node;
+
+        head = node;
+        currentSize++;
+        fingerIndex++;
+    }
+
+    @Override
+    public ListNode getFirst() {
+        return head;
+    }
+
+    @Override
+    public ListNode removeFirst() {
+        if (currentSize == 0) return null;
+
+        DoublyLinkedNode temp = head;
+        unlink(temp);
+        fingerIndex--;
+
+        return temp;
+    }
+
+    /**
+     * Adds the specified {@code ListNode} to the end of the linked list.
+     *
+     * @param newNode the {@code ListNode} to be added at the end of the list.
+     *                If {@code newNode} is {@code null}, the method does nothing.
+     */
+    @Override
+    public void addLast(ListNode newNode) {
+        if (newNode == null) return;
+
+        DoublyLinkedNode node = toDoublyLinked(newNode);
+        node.setPrevious(tail);
+        node.setNext(null);
+
+        if (tail != null)
+            tail.setNext(node);
+        else
+            head = node;
+
+        tail = node;
+        currentSize++;
+    }
+
+    @Override
+    public ListNode getLast() {
+        return tail;
+    }
+
+    /**
+     * Removes and returns the last node in the linked list in O(1).
+     * If the list is empty, returns {@code null}.
+     *
+     * @return the last {@code ListNode} that was removed from the list,
+     * or {@code null} if the list was empty.
+     */
+    @Override
+    public ListNode removeLast() {
+        if (currentSize == 0) return null;
+
+        DoublyLinkedNode temp = tail;
+        unlink(temp);
+
+        return temp;
+    }
+
+    /**
+     * Removes the given node from the list and invalidates the finger, if it references the node.
+     */
+    private void unlink(DoublyLinkedNode node) {
+        DoublyLinkedNode previous = node.getPrevious();
+        DoublyLinkedNode next = next(node);
+
+        if (previous != null)
+            previous.setNext(next);
+        else
+            head = next;
+
+        if (next != null)
+            next.setPrevious(previous);
+        else
+            tail = previous;
+
+        node.setNext(null);
+        node.setPrevious(null);
+        currentSize--;
+
+        if (finger == node) finger = null;
+    }
+
+    /**
+     * Retrieves the {@code ListNode} at the specified index in the linked list.
+     * If the index is out of bounds, returns {@code null}.
+     *
+     * @param index the zero-based position of the node to retrieve.
+     * @return the {@code ListNode} at the specified index, or {@code null} if the index is invalid.
+     */
+    @Override
+    public ListNode get(int index) {
+        if (index < 0 || index >= currentSize)
+            return null;
+
+        return node(index);
+    }
+
+    /**
+     * Inserts the specified {@code ListNode} at the given index in the linked list.
+     * If the index is less than or equal to 0, the new node is added at the beginning of the list.
+     * If the index is greater than or equal to the current size of the list, the new node is added at the end.
+     *
+     * @param newNode the {@code ListNode} to be inserted into the list.
+     * @param index   the position at which the node is to be inserted.
+     */
+    @Override
+    public void insert(ListNode newNode, int index) {
+        if (newNode == null) return;
+
+        if (index <= 0)
+            this.addFirst(newNode);
+        else if (index >= currentSize)
+            this.addLast(newNode);
+        else {
+            DoublyLinkedNode successor = node(index);
+            DoublyLinkedNode node = toDoublyLinked(newNode);
+            DoublyLinkedNode previous = successor.getPrevious();
+
+            node.setPrevious(previous);
+            node.setNext(successor);
+            previous.setNext(node);
+            successor.setPrevious(node);
+            currentSize++;
+
+            finger = node;
+        }
+    }
+
+    /**
+     * Removes and returns the {@code ListNode} at the specified index in the linked list.
+     * If the index is less than 0, the first node is removed and returned.
+     * If the index is greater than or equal to the size of the list, the last node is removed and returned.
+     *
+     * @param index the zero-based position of the node to remove.
+     * @return the {@code ListNode} that was removed from the list, or {@code null} if the list was empty.
+     */
+    @Override
+    public ListNode remove(int index) {
+        if (index <= 0)
+            return this.removeFirst();
+        if (index >= currentSize - 1)
+            return this.removeLast();
+
+        DoublyLinkedNode node = node(index);
+        DoublyLinkedNode next = next(node);
+        unlink(node);
+
+        // keep the finger close to the edit position
+        finger = next;
+        fingerIndex = index;
+        return node;
+    }
+
+    /**
+     * Inserts the given nodes in order, so that the first of them ends up at the specified index. The nodes are
+     * linked into a chain first, which is then spliced into the list after a single walk to the index.
+     * Afterwards, the finger references the last inserted node.
+     *
+     * @param nodes  the nodes to be inserted. Plain {@code ListNode} objects are replaced by
+     *               {@code DoublyLinkedNode} objects holding the same bitmap.
+     *               Precondition: ( nodes != null ) and no node within the range is {@code null}
+     * @param offset the index of the first node within {@code nodes} to be inserted.
+     * @param length the number of nodes to be inserted.
+     * @param index  the position at which the first node is inserted. A value less than or equal to 0 inserts at
+     *               the start, a value greater than or equal to the size of the list appends the nodes.
+     */
+    @Override
+    public void insertAll(ListNode[] nodes, int offset, int length, int index) {
+        if (length <= 0) return;
+
+        DoublyLinkedNode first = toDoublyLinked(nodes[offset]);
+        DoublyLinkedNode last = first;
+        for (int i = offset + 1; i < offset + length; i++) {
+            DoublyLinkedNode node = toDoublyLinked(nodes[i]);
+            node.setPrevious(last);
+            last.setNext(node);
+            last = node;
+        }
+
+        DoublyLinkedNode previous;
+        DoublyLinkedNode successor;
+        if (index <= 0) {
+            previous = null;
+            successor = head;
+            fingerIndex += length;
+        } else if (index >= currentSize) {
+            previous = tail;
+            successor = null;
+        } else {
+            successor = node(index);
+            previous = successor.getPrevious();
+
+            finger = last;
+            fingerIndex = index + length - 1;
+        }
+
+        first.setPrevious(previous);
+        last.setNext(successor);
+
+        if (previous != null)
+            previous.setNext(first);
+        else
+            head = first;
+
+        if (successor != null)
+            successor.setPrevious(last);
+        else
+            tail = last;
+
+        currentSize += length;
+    }
+
+    /**
+     * Removes the nodes in the range {@code [from, to)}. The list is walked to the first node of the range once
+     * (by the same nearest-start walk as {@code get()}) and the range is unlinked as a whole.
+     *
+     * @param from the index of the first node to be removed.
+     * @param to   the index after the last node to be removed.
+     * @return {@code true} if the range was removed, {@code false} if it is invalid.
+     */
+    @Override
+    public boolean removeRange(int from, int to) {
+        if (from < 0 || to > currentSize || from > to)
+            return false;
+        if (from == to) return true;
+
+        DoublyLinkedNode first = node(from);
+        DoublyLinkedNode last = first;
+
+        int hops = to - from - 1;
+        lastHops += hops;
+        totalHops += hops;
+        for (int i = from + 1; i < to; i++) {
+            last = next(last);
+        }
+
+        DoublyLinkedNode previous = first.getPrevious();
+        DoublyLinkedNode next = next(last);
+
+        if (previous != null)
+            previous.setNext(next);
+        else
+            head = next;
+
+        if (next != null)
+            next.setPrevious(previous);
+        else
+            tail = previous;
+
+        first.setPrevious(null);
+        last.setNext(null);
+        currentSize -= to - from;
+
+        // keep the finger close to the edit position
+        finger = next;
+        fingerIndex = from;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        head = tail = finger = null;
+        currentSize = 0;
+    }
+
+    /**
+     * Creates a cursor, which traverses the list in both directions, starting at the specified index.
+     * The cursor is positioned by the same nearest-start walk as {@code get()}, every further step costs O(1).
+     *
+     * @param index the index of the node returned by the first call of {@code next()}.
+     *              <p>Precondition: ( index >= 0 ) && ( index <= size() )</p>
+     * @return the cursor.
+     */
+    @Override
+    public BidirectionalListCursor cursor(int index) {
+        DoublyLinkedNode start = index < currentSize ? node(index) : null;
+
+        return new BidirectionalListCursor() {
+            private DoublyLinkedNode nextNode = start;
+            private int nextIndex = index;
+
+            @Override
+            public boolean hasNext() {
+                return nextNode != null;
+            }
+
+            @Override
+            public ListNode next() {
+                DoublyLinkedNode result = nextNode;
+                if (result != null) {
+                    nextNode = BrailleDoublyLinkedList.next(result);
+                    nextIndex++;
+                }
+                return result;
+            }
+
+            @Override
+            public int nextIndex() {
+                return nextIndex;
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                return nextIndex > 0;
+            }
+
+            @Override
+            public ListNode previous() {
+                DoublyLinkedNode result = nextNode == null ? tail : nextNode.getPrevious();
+                if (result != null) {
+                    nextNode = result;
+                    nextIndex--;
+                }
+                return result;
+            }
+
+            @Override
+            public int previousIndex() {
+                return nextIndex - 1;
+            }
+        };
+    }
+
+    /**
+     * Method is required for submission testing.
+     */
+    @Override
+    public ListNode debugGetHead() {
+        return head;
+    }
+
+    /**
+     * Method is required for submission testing.
+     */
+    @Override
+    public ListNode debugGetTail() {
+        return tail;
+    }
+}
@@ -1,6 +1,9 @@
 package AB3;
 
+import AB3.Interfaces.CursorList;
 import AB3.Interfaces.List;
+import AB3.Interfaces.ListCursor;
+import AB3.Interfaces.SpliceList;
 import AB3.Provided.ListNode;
 
 /**
@@ -11,22 +14,91 @@ import AB3.Provided.ListNode;
  *
  * <p>This class is particularly designed to operate with {@code ListNode} objects which represent
  * nodes in a linked list, each containing a bitmap and a reference to the next node.</p>
+ *
+ * <p>The list remembers the most recently accessed node and its index (finger). Indexed operations walk forward
+ * from the finger, if it precedes the target, so sequential access patterns (e.g. typing forward at a cursor)
+ * cost O(1) per step. The number of node hops is counted (see {@code getLastHops()} and {@code getTotalHops()}).</p>
  */
-public class BrailleLinkedList implements List {
+public class BrailleLinkedList implements List, CursorList, SpliceList {
     private ListNode head;
     private ListNode tail;
 
     // TODO: (optional) variable declarations
     private int currentSize;
 
+    private ListNode finger;    // most recently accessed node (or null)
+    private int fingerIndex;    // index of the finger node
+
+    private int lastHops;       // node hops of the most recent operation
+    private long totalHops;     // node hops since construction or the last call of resetHops()
+
     /**
      * Constructor initializes an empty BrailleLinkedList.
      */
     public BrailleLinkedList() {
-        head = tail = null;
+        head = tail = finger = null;
         currentSize = 0;
     }
 
+    /**
+     * Retrieves the node at the specified index. The walk starts at the finger, if it precedes the index, and at
+     * the head otherwise. The last node is taken from the tail directly. Afterwards, the finger references the
+     * retrieved node.
+     *
+     * @param index the zero-based position of the node.
+     *              <p>Precondition: ( index >= 0 ) && ( index < size() )</p>
+     * @return the node at the specified index.
+     */
+    private ListNode node(int index) {
+        ListNode node = head;
+        int position = 0;
+
+        if (index == currentSize - 1) {
+            node = tail;
+            position = index;
+        } else if (finger != null && fingerIndex <= index) {
+            node = finger;
+            position = fingerIndex;
+        }
+
+        lastHops = index - position;
+        totalHops += lastHops;
+        for (; position < index; position++) {
+            node = node.getNext();
+        }
+
+        finger = node;
+        fingerIndex = index;
+        return node;
+    }
+
+    /**
+     * Returns the number of node hops the most recent indexed operation ({@code get}, {@code insert},
+     * {@code remove}, {@code removeLast} or {@code cursor}) took.
+     *
+     * @return the number of hops of the most recent indexed operation.
+     */
+    public int getLastHops() {
+        return lastHops;
+    }
+
+    /**
+     * Returns the number of node hops of all operations since construction or the last call of {@code resetHops()}.
+     *
+     * @return the total number of hops.
+     */
+    public long getTotalHops() {
+        return totalHops;
+    }
+
+    /**
+     * Resets the hop counters.
+     */
+    public void resetHops() {
+        lastHops = 0;
+        totalHops = 0;
+    }
+
     /**
      * Returns the number of nodes in the BrailleLinkedList.
      *
@@ -47,6 +119,8 @@ public class BrailleLinkedList implements List {
      */
     @Override
     public void addFirst(ListNode newNode) {
+        if (newNode == null) return;
+
         if (head != null) {
             newNode.setNext(head);
             head = newNode;
@@ -54,6 +128,7 @@ public class BrailleLinkedList implements List {
             head = tail = newNode;
 
         currentSize++;
+        fingerIndex++;
     }
 
     /**
@@ -90,6 +165,11 @@ public class BrailleLinkedList implements List {
         if (head == null)
             tail = null;
 
+        if (finger == temp)
+            finger = null;
+        else
+            fingerIndex--;
+
         return temp;
     }
 
@@ -103,6 +183,8 @@ public class BrailleLinkedList implements List {
      */
     @Override
     public void addLast(ListNode newNode) {
+        if (newNode == null) return;
+
         if (tail != null) {
             tail.setNext(newNode);
             tail = newNode;
@@ -131,6 +213,10 @@ public class BrailleLinkedList implements List {
      * After removing the node, updates the tail to the previous node in the list.
      * If the list becomes empty after removal, both the head and tail are set to {@code null}.
      *
+     * <p>Since nodes do not reference their predecessors, the new tail is found by a single walk forward from the
+     * finger (or the head), which is O(n). Callers that remove nodes from the end repeatedly (e.g. backspace)
+     * should use {@code BrailleDoublyLinkedList}, which removes the last node in O(1).</p>
+     *
      * @return the last {@code ListNode} that was removed from the list,
      * or {@code null} if the list was empty.
      */
@@ -139,17 +225,20 @@ public class BrailleLinkedList implements List {
         if (currentSize == 0) return null;
 
         ListNode temp = tail;
-        ListNode secondLast = head;
 
-        while (head.getNext().getNext() != null)
-            secondLast = secondLast.getNext();
+        if (head == tail) {
+            head = tail = null;
+        } else {
+            ListNode secondLast = node(currentSize - 2);
 
-        secondLast.setNext(null);
+            secondLast.setNext(null);
+            tail = secondLast;
+        }
 
-        currentSize--;
+        if (finger == temp)
+            finger = null;
 
-        if (tail == null)
-            head = null;
+        currentSize--;
         return temp;
     }
 
@@ -166,11 +255,7 @@ public class BrailleLinkedList implements List {
         if (index < 0 || index >= currentSize)
             return null;
 
-        ListNode result = head;
-        for (int i = 0; i < index; i++) {
-            result = result.getNext();
-        }
-        return result;
+        return node(index);
     }
 
     /**
@@ -193,10 +278,14 @@ public class BrailleLinkedList implements List {
         else if (index >= currentSize)
             this.addLast(newNode);
         else {
-            ListNode temp = this.get(index - 1);
+            ListNode temp = node(index - 1);
             newNode.setNext(temp.getNext());
             temp.setNext(newNode);
             currentSize++;
+
+            // the next insert of a forward typing cursor continues right here
+            finger = newNode;
+            fingerIndex = index;
         }
     }
 
@@ -222,16 +311,137 @@ public class BrailleLinkedList implements List {
             deletedNode = tail;
             this.removeLast();
         } else {
-            deletedNode = this.get(index);
+            ListNode previousNode = node(index - 1);
+            deletedNode = previousNode.getNext();
 
-            ListNode previousNode = this.get(index - 1);
-            ListNode nextNode = this.get(index + 1);
-            previousNode.setNext(nextNode);
+            previousNode.setNext(deletedNode.getNext());
+            if (deletedNode == tail)
+                tail = previousNode;
             currentSize--;
         }
         return deletedNode;
     }
 
+    /**
+     * Inserts the given nodes in order, so that the first of them ends up at the specified index. The nodes are
+     * linked into a chain first, which is then spliced into the list after a single walk to the index.
+     * Afterwards, the finger references the last inserted node.
+     *
+     * @param nodes  the nodes to be inserted.
+     *               Precondition: ( nodes != null ) and no node within the range is {@code null}
+     * @param offset the index of the first node within {@code nodes} to be inserted.
+     * @param length the number of nodes to be inserted.
+     * @param index  the position at which the first node is inserted. A value less than or equal to 0 inserts at
+     *               the start, a value greater than or equal to the size of the list appends the nodes.
+     */
+    @Override
+    public void insertAll(ListNode[] nodes, int offset, int length, int index) {
+        if (length <= 0) return;
+
+        ListNode first = nodes[offset];
+        ListNode last = nodes[offset + length - 1];
+        for (int i = offset; i < offset + length - 1; i++) {
+            nodes[i].setNext(nodes[i + 1]);
+        }
+
+        if (index <= 0 || head == null) {
+            last.setNext(head);
+            if (head == null) tail = last;
+            head = first;
+            fingerIndex += length;
+        } else if (index >= currentSize) {
+            last.setNext(null);
+            tail.setNext(first);
+            tail = last;
+        } else {
+            ListNode previous = node(index - 1);
+            last.setNext(previous.getNext());
+            previous.setNext(first);
+
+            finger = last;
+            fingerIndex = index + length - 1;
+        }
+        currentSize += length;
+    }
+
+    /**
+     * Removes the nodes in the range {@code [from, to)}. The list is walked to the node before the range once and
+     * the range is unlinked as a whole.
+     *
+     * @param from the index of the first node to be removed.
+     * @param to   the index after the last node to be removed.
+     * @return {@code true} if the range was removed, {@code false} if it is invalid.
+     */
+    @Override
+    public boolean removeRange(int from, int to) {
+        if (from < 0 || to > currentSize || from > to)
+            return false;
+        if (from == to) return true;
+
+        ListNode previous = from == 0 ? null : node(from - 1);
+        ListNode next = previous == null ? head : previous.getNext();
+
+        int hops = to - from;
+        lastHops = from == 0 ? hops : lastHops + hops;
+        totalHops += hops;
+        for (int i = from; i < to; i++) {
+            next = next.getNext();
+        }
+
+        if (previous == null)
+            head = next;
+        else
+            previous.setNext(next);
+        if (next == null)
+            tail = previous;
+
+        if (finger != null && fingerIndex >= to)
+            fingerIndex -= to - from;
+        else if (finger != null && fingerIndex >= from)
+            finger = null;
+
+        currentSize -= to - from;
+        return true;
+    }
+
+    /**
+     * Creates a cursor, which traverses the list in order, starting at the specified index.
+     * Creating the cursor walks the list up to the index once, every further step costs O(1).
+     *
+     * @param index the index of the first node returned by the cursor.
+     *              <p>Precondition: ( index >= 0 ) && ( index <= size() )</p>
+     * @return the cursor.
+     */
+    @Override
+    public ListCursor cursor(int index) {
+        ListNode start = index < currentSize ? node(index) : null;
+
+        return new ListCursor() {
+            private ListNode nextNode = start;
+            private int nextIndex = index;
+
+            @Override
+            public boolean hasNext() {
+                return nextNode != null;
+            }
+
+            @Override
+            public ListNode next() {
+                ListNode result = nextNode;
+                if (result != null) {
+                    nextNode = result.getNext();
+                    nextIndex++;
+                }
+                return result;
+            }
+
+            @Override
+            public int nextIndex() {
+                return nextIndex;
+            }
+        };
+    }
+
     /**
      * Clears the BrailleLinkedList by removing all nodes.
      *
@@ -240,7 +450,7 @@ public class BrailleLinkedList implements List {
      */
     @Override
     public void clear() {
-        head = tail = null;
+        head = tail = finger = null;
         currentSize = 0;
     }
 
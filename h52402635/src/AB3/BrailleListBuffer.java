@@ -1,17 +1,26 @@
 package AB3;
 
+import AB3.Interfaces.CursorList;
 import AB3.Interfaces.List;
-import AB3.Interfaces.ListBuffer;
+import AB3.Interfaces.ListCursor;
+import AB3.Interfaces.RangeListBuffer;
+import AB3.Interfaces.SpliceList;
 import AB3.Provided.ListNode;
 
+import java.util.Arrays;
+
 
 /**
  * The {@code BrailleListBuffer} class provides a buffer for storing and manipulating a sequence of Braille
  * characters using a linked list. Each Braille character is represented as a bitmap contained within
  * {@code ListNode} objects. The buffer allows common operations such as adding nodes, removing nodes, inserting at
  * specific positions, and rendering the buffer contents as formatted scanlines.
+ *
+ * <p>Word-cached rendering (see {@code WordGlyphCache}) is not available for this buffer: it stores bitmaps, so
+ * every lookup would have to pack the word's bitmaps first, which costs more than rendering the word directly.
+ * Use {@code PackedBrailleListBuffer.setWordCache()} to render words from the cache.</p>
  */
-public class BrailleListBuffer implements ListBuffer {
+public class BrailleListBuffer implements RangeListBuffer {
     private static final char SPACE_SYMBOL = ' ';
     private List list;    // can store a reference to a BrailleLinkedList
 
@@ -95,6 +104,57 @@ public class BrailleListBuffer implements ListBuffer {
         return list.remove(position).getBitmap();
     }
 
+    /**
+     * Inserts a range of Braille character bitmaps, so that the first of them ends up at the specified position.
+     * If the underlying list is a {@code SpliceList}, the nodes are spliced in with a single walk to the position,
+     * otherwise they are inserted one by one.
+     *
+     * @param position the index at which the first bitmap is inserted. A position equal to the size appends the
+     *                 characters.
+     * @param bitmaps  the bitmap representations of Braille characters to be inserted.
+     * @param offset   the index of the first bitmap within {@code bitmaps} to be inserted.
+     * @param length   the number of bitmaps to be inserted.
+     * @return {@code true} if the bitmaps were inserted, {@code false} if the position is invalid.
+     */
+    @Override
+    public boolean insertAll(int position, char[][][] bitmaps, int offset, int length) {
+        if (position < 0 || position > list.size()) return false;
+
+        if (list instanceof SpliceList) {
+            ListNode[] nodes = new ListNode[length];
+            for (int i = 0; i < length; i++) {
+                nodes[i] = new ListNode(bitmaps[offset + i]);
+            }
+            ((SpliceList) list).insertAll(nodes, 0, length, position);
+            return true;
+        }
+
+        for (int i = 0; i < length; i++) {
+            list.insert(new ListNode(bitmaps[offset + i]), position + i);
+        }
+        return true;
+    }
+
+    /**
+     * Deletes the Braille characters in the range {@code [from, to)}. If the underlying list is a
+     * {@code SpliceList}, the range is unlinked as a whole, otherwise the nodes are removed one by one.
+     *
+     * @param from the index of the first character to be deleted.
+     * @param to   the index after the last character to be deleted.
+     * @return {@code true} if the range was deleted, {@code false} if it is invalid.
+     */
+    @Override
+    public boolean deleteRange(int from, int to) {
+        if (from < 0 || to > list.size() || from > to) return false;
+
+        if (list instanceof SpliceList) return ((SpliceList) list).removeRange(from, to);
+
+        for (int i = from; i < to; i++) {
+            list.remove(from);
+        }
+        return true;
+    }
+
     /**
      * Clears the underlying list buffer.
      *
@@ -110,6 +170,10 @@ public class BrailleListBuffer implements ListBuffer {
      * Renders the contents of the buffer into an array of strings, each representing a scanline.
      * Characters in the buffer are aligned horizontally with spacing between them.
      *
+     * <p>The list is traversed once (by a {@code ListCursor}, if the list provides one, or along the nodes'
+     * {@code next} references otherwise), and every bitmap row is copied into its scanline, so rendering is
+     * linear in the number of characters times the font height.</p>
+     *
      * @param spacing the number of spaces (ASCII code 32) to insert between consecutive characters from the buffer
      *                in the rendered output.
      *                Precondition: ( spacing >= 0 )
@@ -121,23 +185,35 @@ public class BrailleListBuffer implements ListBuffer {
         String[] result = null;
 
         if (this.list.size() > 0) { // buffer not empty
-            int numberOfLines = list.getFirst().getBitmap().length;
+            int size = list.size();
+            char[][] first = list.getFirst().getBitmap();
+            int numberOfLines = first.length;
             if (numberOfLines > 0) { // safe as count > 0
 
-                StringBuilder sb = new StringBuilder();
-                result = new String[numberOfLines];
+                // due to specification (usage of monospaced font) no further checks are required here
+                char[][] scanlines = new char[numberOfLines][size * (first[0].length + spacing) - spacing];
+                ListCursor cursor = list instanceof CursorList ? ((CursorList) list).cursor(0) : null;
+                ListNode node = list.getFirst();
+                int column = 0;
 
-                for (int i = 0; i < numberOfLines; i++) {
-                    // due to specification (usage of monospaced font) no further checks are required here
-                    for (int j = 0; j < this.list.size(); j++) {
-                        char[][] bitmap = list.get(j).getBitmap();
-                        sb.append(bitmap[i]);
-                        if (j < this.list.size() - 1) {
-                            sb.append(String.valueOf(SPACE_SYMBOL).repeat(spacing));
+                for (int j = 0; j < size; j++) {
+                    if (cursor != null) node = cursor.next();
+
+                    char[][] bitmap = node.getBitmap();
+                    for (int i = 0; i < numberOfLines; i++) {
+                        System.arraycopy(bitmap[i], 0, scanlines[i], column, bitmap[i].length);
+                        if (j < size - 1) {
+                            Arrays.fill(scanlines[i], column + bitmap[i].length, column + bitmap[i].length + spacing, SPACE_SYMBOL);
                         }
                     }
-                    result[i] = sb.toString();
-                    sb.setLength(0);
+                    column += bitmap[0].length + spacing;
+
+                    if (cursor == null) node = node.getNext();
+                }
+
+                result = new String[numberOfLines];
+                for (int i = 0; i < numberOfLines; i++) {
+                    result[i] = new String(scanlines[i]);
                 }
             }
         }
@@ -1,23 +1,30 @@
 package AB3;
 
+import AB3.Interfaces.CellDecoder;
 import AB3.Interfaces.Decoder;
 
 /**
  * The BrailleReader class provides functionality to translate Braille text lines represented as
  * scan lines into ASCII text. It uses a Decoder to decode Braille character bitmaps into corresponding
  * ASCII characters.
+ * <p>If the decoder is a {@code CellDecoder}, translation is delegated to a {@code BrailleScanlineReader}, which
+ * decodes cells directly from the scanlines.</p>
  */
 public class BrailleReader {
     private final int WIDTH = 2;
     private final int HEIGHT = 3;
 
     private Decoder decoder;    // can store a reference to a BrailleDecoder
+    private BrailleScanlineReader scanlineReader;   // set if the decoder is a CellDecoder
+    private final char[][] bitmap = new char[HEIGHT][WIDTH];    // reused by getBrailleChar
 
     /**
      * Constructs a BrailleReader instance.
      */
     public BrailleReader(Decoder decoder) { // Hint: pass your BrailleDecoder to this constructor
         this.decoder = decoder;
+        if (decoder instanceof CellDecoder)
+            scanlineReader = new BrailleScanlineReader((CellDecoder) decoder);
     }
 
     /**
@@ -28,10 +35,10 @@ public class BrailleReader {
      * @param brailleLine an array of strings (scanlines) representing the Braille line data.
      * @return the bitmap of a single Braille character extracted from the provided
      * line data, or null if the {@code brailleLine} is invalid or {@code null},
-     * or the specified position is out of bounds.
+     * or the specified position is out of bounds. The bitmap is reused by subsequent calls.
      */
     private char[][] getBrailleChar(int position, int spacing, String[] brailleLine) {
-        char[][] result = new char[HEIGHT][WIDTH];
+        char[][] result = bitmap;
 
         for (int i = 0; i < HEIGHT; i++) {
             for (int j = 0; j < WIDTH; j++) {
@@ -52,6 +59,9 @@ public class BrailleReader {
      * empty string if the input is invalid or no Braille characters are detected.
      */
     public String translate(String[] brailleLine, char dotSymbol, int spacing) {
+        if (scanlineReader != null)
+            return scanlineReader.translate(brailleLine, dotSymbol, spacing);
+
         StringBuilder resultTranslate = new StringBuilder();
 
         for (int i = 0; i < brailleLine[0].length(); i += WIDTH + spacing) {
@@ -0,0 +1,374 @@
+package AB3;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * The {@code BrailleRope} class implements a sequence of Braille character bitmaps as a balanced binary tree (rope).
+ *
+ * <p>Each tree node stores one bitmap and the size of its subtree, so a character is found by its index in
+ * O(log n). The tree is kept balanced by AVL rotations, and insert, delete, split and concatenation are
+ * O(log n) as well. Nodes are immutable: every modification copies the path to the root and shares all other
+ * nodes, which makes slices (see {@code slice()}) cheap and keeps them independent of later modifications.</p>
+ */
+public class BrailleRope {
+
+    /**
+     * An immutable tree node holding one bitmap.
+     */
+    private static final class Node {
+        private final char[][] bitmap;
+        private final Node left;
+        private final Node right;
+        private final int size;     // number of bitmaps within this subtree
+        private final int height;   // height of this subtree (a leaf has height 1)
+
+        private Node(Node left, char[][] bitmap, Node right) {
+            this.bitmap = bitmap;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + 1 + size(right);
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    private Node root;
+
+    /**
+     * Constructs an empty {@code BrailleRope}.
+     */
+    public BrailleRope() {
+        root = null;
+    }
+
+    private BrailleRope(Node root) {
+        this.root = root;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Creates a node from the given parts and restores the AVL property by rotation, if the heights of the parts
+     * differ by two.
+     */
+    private static Node balance(Node left, char[][] bitmap, Node right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) < height(left.right)) {
+                // left-right case
+                Node pivot = left.right;
+                return new Node(new Node(left.left, left.bitmap, pivot.left), pivot.bitmap, new Node(pivot.right, bitmap, right));
+            }
+            return new Node(left.left, left.bitmap, new Node(left.right, bitmap, right));
+        }
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) < height(right.left)) {
+                // right-left case
+                Node pivot = right.left;
+                return new Node(new Node(left, bitmap, pivot.left), pivot.bitmap, new Node(pivot.right, right.bitmap, right.right));
+            }
+            return new Node(new Node(left, bitmap, right.left), right.bitmap, right.right);
+        }
+        return new Node(left, bitmap, right);
+    }
+
+    /**
+     * Joins two trees and a bitmap placed between them into one balanced tree.
+     */
+    private static Node join(Node left, char[][] bitmap, Node right) {
+        if (height(left) > height(right) + 1) {
+            return balance(left.left, left.bitmap, join(left.right, bitmap, right));
+        }
+        if (height(right) > height(left) + 1) {
+            return balance(join(left, bitmap, right.left), right.bitmap, right.right);
+        }
+        return new Node(left, bitmap, right);
+    }
+
+    /**
+     * Concatenates two trees into one balanced tree.
+     */
+    private static Node concat(Node left, Node right) {
+        if (left == null) return right;
+        if (right == null) return left;
+
+        Node[] parts = split(right, 1);
+        return join(left, parts[0].bitmap, parts[1]);
+    }
+
+    /**
+     * Splits a tree into the first {@code index} bitmaps and the remaining ones.
+     *
+     * @return an array holding the left part at index 0 and the right part at index 1.
+     */
+    private static Node[] split(Node node, int index) {
+        if (node == null) return new Node[2];
+
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            Node[] parts = split(node.left, index);
+            parts[1] = join(parts[1], node.bitmap, node.right);
+            return parts;
+        }
+        Node[] parts = split(node.right, index - leftSize - 1);
+        parts[0] = join(node.left, node.bitmap, parts[0]);
+        return parts;
+    }
+
+    /**
+     * Builds a perfectly balanced tree of the given range of bitmaps.
+     */
+    private static Node build(char[][][] bitmaps, int from, int to) {
+        if (from >= to) return null;
+
+        int middle = (from + to) >>> 1;
+        return new Node(build(bitmaps, from, middle), bitmaps[middle], build(bitmaps, middle + 1, to));
+    }
+
+    /**
+     * Returns the number of bitmaps in the rope.
+     *
+     * @return the current size of the rope.
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Retrieves the bitmap at the specified index in O(log n).
+     *
+     * @param index the zero-based position of the bitmap to retrieve.
+     * @return the bitmap at the specified index, or {@code null} if the index is invalid.
+     */
+    public char[][] get(int index) {
+        if (index < 0 || index >= size()) return null;
+
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.bitmap;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Inserts a bitmap at the specified index in O(log n).
+     *
+     * @param index  the position at which the bitmap is inserted.
+     *               <p>Precondition: ( index >= 0 ) && ( index <= size() )</p>
+     * @param bitmap the bitmap to be inserted.
+     */
+    public void insert(int index, char[][] bitmap) {
+        Node[] parts = split(root, index);
+        root = join(parts[0], bitmap, parts[1]);
+    }
+
+    /**
+     * Inserts a range of bitmaps at the specified index in O(length + log n).
+     *
+     * @param index   the position at which the first bitmap is inserted.
+     *                <p>Precondition: ( index >= 0 ) && ( index <= size() )</p>
+     * @param bitmaps the bitmaps to be inserted.
+     * @param offset  the index of the first bitmap within {@code bitmaps}.
+     * @param length  the number of bitmaps to be inserted.
+     */
+    public void insertAll(int index, char[][][] bitmaps, int offset, int length) {
+        Node[] parts = split(root, index);
+        root = concat(concat(parts[0], build(bitmaps, offset, offset + length)), parts[1]);
+    }
+
+    /**
+     * Removes the bitmap at the specified index in O(log n).
+     *
+     * @param index the zero-based position of the bitmap to remove.
+     * @return the removed bitmap, or {@code null} if the index is invalid.
+     */
+    public char[][] remove(int index) {
+        char[][] bitmap = get(index);
+        if (bitmap == null) return null;
+
+        removeRange(index, index + 1);
+        return bitmap;
+    }
+
+    /**
+     * Removes all bitmaps within the given range in O(log n).
+     *
+     * @param from the index of the first bitmap to be removed (inclusive).
+     *             <p>Precondition: ( from >= 0 ) && ( from <= to ) && ( to <= size() )</p>
+     * @param to   the index after the last bitmap to be removed (exclusive).
+     */
+    public void removeRange(int from, int to) {
+        Node[] tail = split(root, to);
+        Node[] head = split(tail[0], from);
+        root = concat(head[0], tail[1]);
+    }
+
+    /**
+     * Returns a rope holding the bitmaps within the given range in O(log n). The slice shares its nodes with this
+     * rope and is not affected by later modifications of this rope (and vice versa).
+     *
+     * @param from the index of the first bitmap of the slice (inclusive).
+     *             <p>Precondition: ( from >= 0 ) && ( from <= to ) && ( to <= size() )</p>
+     * @param to   the index after the last bitmap of the slice (exclusive).
+     * @return the slice.
+     */
+    public BrailleRope slice(int from, int to) {
+        return new BrailleRope(split(split(root, to)[0], from)[1]);
+    }
+
+    /**
+     * Returns a rope holding the same bitmaps in O(1). Since nodes are immutable, both ropes can be modified
+     * independently afterwards.
+     *
+     * @return the copy.
+     */
+    public BrailleRope copy() {
+        return new BrailleRope(root);
+    }
+
+    /**
+     * Replaces the bitmaps of this rope by the bitmaps of the given rope in O(1). Both ropes can be modified
+     * independently afterwards.
+     *
+     * @param other the rope to take the bitmaps from.
+     *              <p>Precondition: ( other != null )</p>
+     */
+    public void assign(BrailleRope other) {
+        root = other.root;
+    }
+
+    /**
+     * Removes all bitmaps from the rope.
+     */
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * Renders the bitmaps within the given range into the given rows. The tree is traversed once in order,
+     * so rendering costs O(log n + (to - from) * height).
+     *
+     * @param from    the index of the first bitmap to be rendered (inclusive).
+     * @param to      the index after the last bitmap to be rendered (exclusive).
+     *                <p>Precondition: ( from >= 0 ) && ( from < to ) && ( to <= size() )</p>
+     * @param spacing the number of spaces (ASCII code 32) to insert between consecutive characters.
+     * @param target  the rows the scanlines are written to, one row per bitmap row, starting at column 0.
+     * @return the number of characters written to each row.
+     */
+    public int renderScanlines(int from, int to, int spacing, char[][] target) {
+        Node[] stack = new Node[height(root)];
+        int depth = descend(from, stack);
+
+        int column = 0;
+        for (int i = from; i < to; i++) {
+            Node node = stack[--depth];
+            char[][] bitmap = node.bitmap;
+
+            for (int row = 0; row < target.length && row < bitmap.length; row++) {
+                System.arraycopy(bitmap[row], 0, target[row], column, bitmap[row].length);
+                if (i < to - 1) {
+                    Arrays.fill(target[row], column + bitmap[row].length, column + bitmap[row].length + spacing, ' ');
+                }
+            }
+            column += bitmap[0].length + (i < to - 1 ? spacing : 0);
+
+            for (node = node.right; node != null; node = node.left) {
+                stack[depth++] = node;
+            }
+        }
+        return column;
+    }
+
+    /**
+     * Renders a single scanline of the bitmaps within the given range into the given {@code CharBuffer},
+     * starting at its current position. The tree is traversed once in order.
+     *
+     * @param from    the index of the first bitmap to be rendered (inclusive).
+     * @param to      the index after the last bitmap to be rendered (exclusive).
+     *                <p>Precondition: ( from >= 0 ) && ( from <= to ) && ( to <= size() )</p>
+     * @param row     the zero-based index of the scanline.
+     * @param spacing the number of spaces (ASCII code 32) to insert between consecutive characters.
+     * @param target  the buffer the scanline is written to.
+     */
+    public void renderScanline(int from, int to, int row, int spacing, CharBuffer target) {
+        Node[] stack = new Node[height(root)];
+        int depth = descend(from, stack);
+
+        for (int i = from; i < to; i++) {
+            Node node = stack[--depth];
+            target.put(node.bitmap[row]);
+
+            if (i < to - 1) {
+                for (int k = 0; k < spacing; k++) {
+                    target.put(' ');
+                }
+            }
+
+            for (node = node.right; node != null; node = node.left) {
+                stack[depth++] = node;
+            }
+        }
+    }
+
+    /**
+     * Descends to the node at the given index and pushes this node and all ancestors, which follow it in order,
+     * onto the stack. Popping the stack and pushing the left spine of each popped node's right subtree then
+     * visits all nodes in order, starting at the given index.
+     *
+     * @param index the index of the first node to be visited.
+     * @param stack the stack, large enough to hold {@code height(root)} nodes.
+     * @return the number of nodes pushed onto the stack.
+     */
+    private int descend(int index, Node[] stack) {
+        int depth = 0;
+        Node node = root;
+
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index <= leftSize) {
+                stack[depth++] = node;
+                if (index == leftSize) break;
+                node = node.left;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        return depth;
+    }
+
+    /**
+     * Renders the bitmaps within the given range into an array of strings, each representing a scanline.
+     *
+     * @param from    the index of the first bitmap to be rendered (inclusive).
+     * @param to      the index after the last bitmap to be rendered (exclusive).
+     * @param spacing the number of spaces (ASCII code 32) to insert between consecutive characters.
+     * @return an array of strings, where each string represents a scanline, or {@code null} if the range is empty
+     * or invalid.
+     */
+    public String[] renderScanlines(int from, int to, int spacing) {
+        if (from < 0 || to > size() || from >= to) return null;
+
+        char[][] first = get(from);
+        char[][] rows = new char[first.length][(to - from) * (first[0].length + spacing) - spacing];
+        renderScanlines(from, to, spacing, rows);
+
+        String[] result = new String[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            result[i] = new String(rows[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,161 @@
+package AB3;
+
+import AB3.Interfaces.CellDecoder;
+import AB3.Interfaces.MalformedCellListener;
+
+/**
+ * The BrailleScanlineReader class translates Braille text lines represented as scanlines into ASCII text.
+ *
+ * <p>In contrast to {@code BrailleReader}, no bitmap is extracted per Braille character: the binary encoding of
+ * each cell is computed directly from the scanlines using column offsets and handed to a {@code CellDecoder}.
+ * Scanlines may be any {@code CharSequence}, e.g. {@code String}, {@code StringBuilder} or {@code CharBuffer}.</p>
+ *
+ * <p>Cells that are not fully covered by all scanlines (ragged lines) are reported to the registered
+ * {@code MalformedCellListener} and translated to the replacement symbol.</p>
+ */
+public class BrailleScanlineReader {
+    private static final int WIDTH = 2;
+    private static final int HEIGHT = 3;
+    private static final char DEFAULT_REPLACEMENT_SYMBOL = '?';
+
+    private final CellDecoder decoder;
+    private char replacementSymbol = DEFAULT_REPLACEMENT_SYMBOL;
+    private MalformedCellListener listener;
+    private long malformedCount;
+
+    /**
+     * Constructs a BrailleScanlineReader instance.
+     *
+     * @param decoder the decoder used to decode the binary encodings of the cells.
+     *                Precondition: ( decoder != null )
+     */
+    public BrailleScanlineReader(CellDecoder decoder) {
+        this.decoder = decoder;
+    }
+
+    /**
+     * Sets the symbol malformed cells are translated to. Defaults to '?'.
+     *
+     * @param replacementSymbol the replacement symbol.
+     */
+    public void setReplacementSymbol(char replacementSymbol) {
+        this.replacementSymbol = replacementSymbol;
+    }
+
+    /**
+     * Sets the listener notified about malformed cells.
+     *
+     * @param listener the listener, or {@code null} to remove the current listener.
+     */
+    public void setMalformedCellListener(MalformedCellListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Returns the number of malformed cells encountered since construction.
+     *
+     * @return the number of malformed cells.
+     */
+    public long getMalformedCount() {
+        return malformedCount;
+    }
+
+    /**
+     * Returns the number of Braille characters in the given scanlines, based on the longest scanline.
+     *
+     * @param brailleLine the scanlines of a Braille line.
+     * @param spacing     the number of characters used as spacing between Braille characters.
+     * @return the number of Braille characters, or 0 if the {@code brailleLine} is invalid.
+     */
+    public int cellCount(CharSequence[] brailleLine, int spacing) {
+        if (!isValid(brailleLine) || spacing < 0) return 0;
+
+        int length = 0;
+        for (CharSequence scanline : brailleLine) {
+            length = Math.max(length, scanline.length());
+        }
+        return (length + WIDTH + spacing - 1) / (WIDTH + spacing);
+    }
+
+    /**
+     * Computes the binary encoding of the cell starting at the given column.
+     *
+     * @param brailleLine the scanlines of a Braille line.
+     *                    Precondition: ( brailleLine != null ) && ( brailleLine.length == 3 )
+     * @param column      the zero-based column of the cell's first character.
+     * @param dotSymbol   the character used to represent raised Braille dots.
+     * @return the binary encoding of the cell, or -1 if the cell is not fully covered by all scanlines.
+     */
+    public int readCode(CharSequence[] brailleLine, int column, char dotSymbol) {
+        CharSequence top = brailleLine[0], middle = brailleLine[1], bottom = brailleLine[2];
+        int end = column + WIDTH;
+        if (column < 0 || top.length() < end || middle.length() < end || bottom.length() < end) return -1;
+
+        int code = 0;
+        if (top.charAt(column) == dotSymbol) code |= 1;
+        if (middle.charAt(column) == dotSymbol) code |= 1 << 1;
+        if (bottom.charAt(column) == dotSymbol) code |= 1 << 2;
+        if (top.charAt(column + 1) == dotSymbol) code |= 1 << 3;
+        if (middle.charAt(column + 1) == dotSymbol) code |= 1 << 4;
+        if (bottom.charAt(column + 1) == dotSymbol) code |= 1 << 5;
+        return code;
+    }
+
+    /**
+     * Translates the given Braille text lines into an ASCII representation.
+     *
+     * @param brailleLine an array of scanlines of Braille text.
+     * @param dotSymbol   the character used to represent raised Braille dots in the bitmap.
+     * @param spacing     the number of spaces between individual Braille characters within the input.
+     * @return a string representing the ASCII translation of the Braille text. Returns an
+     * empty string if the input is invalid or no Braille characters are detected.
+     */
+    public String translate(CharSequence[] brailleLine, char dotSymbol, int spacing) {
+        int count = cellCount(brailleLine, spacing);
+        char[] result = new char[count];
+
+        translate(brailleLine, 0, count, dotSymbol, spacing, result, 0);
+        return new String(result);
+    }
+
+    /**
+     * Translates a range of Braille characters of the given Braille text lines into ASCII characters.
+     *
+     * @param brailleLine an array of scanlines of Braille text.
+     * @param from        the zero-based number of the first Braille character to translate.
+     * @param to          the zero-based number of the Braille character following the last one to translate.
+     * @param dotSymbol   the character used to represent raised Braille dots in the bitmap.
+     * @param spacing     the number of spaces between individual Braille characters within the input.
+     * @param dest        the array receiving the translated characters.
+     * @param destOffset  index in {@code dest} receiving the first translated character.
+     *                    <p>Precondition: ( dest != null ) && ( destOffset + to - from <= dest.length )</p>
+     * @return the number of translated characters, or 0 if the input is invalid.
+     */
+    public int translate(CharSequence[] brailleLine, int from, int to, char dotSymbol, int spacing,
+                         char[] dest, int destOffset) {
+        if (!isValid(brailleLine) || spacing < 0 || from < 0 || to < from) return 0;
+
+        int column = from * (WIDTH + spacing);
+        for (int position = from; position < to; position++, column += WIDTH + spacing) {
+            int code = readCode(brailleLine, column, dotSymbol);
+
+            if (code < 0) {
+                malformedCount++;
+                if (listener != null)
+                    listener.malformedCell(position, column);
+                dest[destOffset++] = replacementSymbol;
+            } else {
+                dest[destOffset++] = decoder.decodeCell((byte) code);
+            }
+        }
+        return to - from;
+    }
+
+    private static boolean isValid(CharSequence[] brailleLine) {
+        if (brailleLine == null || brailleLine.length != HEIGHT) return false;
+        for (CharSequence scanline : brailleLine) {
+            if (scanline == null) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,103 @@
+package AB3;
+
+import AB2.BrailleCell;
+import AB3.Interfaces.CellDecoder;
+import AB3.Interfaces.Decoder;
+import AB3.Provided.BrailleEncoder;
+import AB3.Provided.TreeNode;
+
+import java.util.Arrays;
+
+/**
+ * The class implements a decoder, which decodes Braille symbols (bitmaps) into ASCII characters.
+ * <p>Unlike {@code BrailleDecoder}, which descends six levels of a {@code BrailleSymbolTree} per character, it
+ * stores the symbols of all 64 possible binary encodings of a 2x3 Braille cell in a lookup table, so that a cell
+ * is decoded with a single array access.</p>
+ */
+public class BrailleTableDecoder implements Decoder, CellDecoder {
+    private static final int BITMAP_HEIGHT = 3;
+    private static final int BITMAP_WIDTH = 2;
+    private static final int CODE_COUNT = 1 << (BITMAP_HEIGHT * BITMAP_WIDTH);
+    private static final char SPACE_SYMBOL = ' ';
+
+    private final char[] symbols = new char[CODE_COUNT];   // symbol for each binary encoding
+
+    /**
+     * Constructs a BrailleTableDecoder object from the lookup table of the given encoder.
+     * <p>The encoding {@code 0b000000} decodes to a white space, as do all encodings not produced by
+     * the encoder for the letters 'a' to 'z'.</p>
+     *
+     * @param encoder the Braille encoder that corresponds to this decoder.
+     *                Precondition: ( encoder != null )
+     */
+    public BrailleTableDecoder(BrailleEncoder encoder) {
+        Arrays.fill(symbols, SPACE_SYMBOL);
+        for (char c = 'a'; c <= 'z'; c++) {
+            symbols[encoder.toBinary(c)] = c;
+        }
+    }
+
+    /**
+     * Constructs a BrailleTableDecoder object from the leaves of the given symbol tree.
+     * <p>Encodings without a leaf within the tree decode to a white space.</p>
+     *
+     * @param tree the Braille symbol tree to be flattened into the lookup table.
+     *             Precondition: ( tree != null )
+     */
+    public BrailleTableDecoder(BrailleSymbolTree tree) {
+        for (int code = 0; code < CODE_COUNT; code++) {
+            symbols[code] = symbolOf(tree, code);
+        }
+    }
+
+    /**
+     * Checks whether this decoder decodes every binary encoding to the same symbol as the given symbol tree.
+     *
+     * @param tree the Braille symbol tree to compare with.
+     *             Precondition: ( tree != null )
+     * @return {@code true} if the lookup table matches the tree for all 64 encodings, {@code false} otherwise.
+     */
+    public boolean matches(BrailleSymbolTree tree) {
+        for (int code = 0; code < CODE_COUNT; code++) {
+            if (symbols[code] != symbolOf(tree, code)) return false;
+        }
+        return true;
+    }
+
+    private static char symbolOf(BrailleSymbolTree tree, int code) {
+        TreeNode node = tree.getNode((byte) code);
+        return node == null || node.getSymbol() == 0 ? SPACE_SYMBOL : node.getSymbol();
+    }
+
+    /**
+     * Decodes a Braille bitmap into its corresponding ASCII character.
+     *
+     * @param bitMap    a 2D character array representing the Braille bitmap.
+     *                  If the input is null or its rows do not match the expected Braille format
+     *                  (height and width), a null character (0) is returned.
+     * @param dotSymbol the character that represents a raised dot in the Braille bitmap.
+     * @return the corresponding ASCII character for the given Braille bitmap.
+     * Returns a space (' ') if the character is unknown, and a null character (0) if the input is invalid.
+     */
+    @Override
+    public char decodeBitmap(char[][] bitMap, char dotSymbol) {
+        if (bitMap == null || bitMap.length != BITMAP_HEIGHT) return 0;
+        for (char[] row : bitMap) {
+            if (row == null || row.length != BITMAP_WIDTH) return 0;
+        }
+
+        return symbols[BrailleCell.pack(bitMap, dotSymbol)];
+    }
+
+    @Override
+    public char decodeCell(byte cell) {
+        return cell >= 0 && cell < CODE_COUNT ? symbols[cell] : SPACE_SYMBOL;
+    }
+
+    @Override
+    public void decodeCells(byte[] cells, int offset, char[] dest, int destOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            dest[destOffset + i] = decodeCell(cells[offset + i]);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package AB3;
+
+import AB3.Provided.ListNode;
+
+/**
+ * The {@code DoublyLinkedNode} class represents a node in a doubly linked list structure.
+ * In addition to the bitmap and the reference to the next node, it holds a reference to the previous node.
+ */
+public class DoublyLinkedNode extends ListNode {
+    private DoublyLinkedNode previous;
+
+    /**
+     * Constructs a new {@code DoublyLinkedNode} with the specified bitmap.
+     *
+     * @param bitmap a 2-dimensional array of characters representing the bitmap contained in this node
+     */
+    public DoublyLinkedNode(char[][] bitmap) {
+        super(bitmap);
+        previous = null;
+    }
+
+    /**
+     * Retrieves reference to previous node in the doubly linked list.
+     *
+     * @return the previous {@code DoublyLinkedNode} in the list, or {@code null} if there is no previous node.
+     */
+    public DoublyLinkedNode getPrevious() {
+        return previous;
+    }
+
+    /**
+     * Sets the reference to the previous node in the doubly linked list.
+     *
+     * @param previous the node that will become the previous node in the list.
+     *                 It can also be {@code null} if the current node should not reference any other node.
+     */
+    public void setPrevious(DoublyLinkedNode previous) {
+        this.previous = previous;
+    }
+}
@@ -0,0 +1,164 @@
+package AB3;
+
+import AB3.Interfaces.CellDecoder;
+import AB3.Interfaces.DecodedCharacterListener;
+
+/**
+ * The IncrementalBrailleDecoder class decodes a Braille line whose scanlines arrive in fragments.
+ *
+ * <p>Fragments may be fed for any scanline in any order. The decoder keeps only the number of characters received
+ * per scanline and the partial binary encodings of the cells not yet complete, stored in a ring buffer. As soon as
+ * all three scanlines cover a cell, it is decoded and passed to the listener, so the latency is bounded per cell
+ * rather than per line. Cells are emitted in order.</p>
+ */
+public class IncrementalBrailleDecoder {
+    private static final int WIDTH = 2;
+    private static final int HEIGHT = 3;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final char DEFAULT_REPLACEMENT_SYMBOL = '?';
+
+    private final CellDecoder decoder;
+    private final DecodedCharacterListener listener;
+    private final char dotSymbol;
+    private final int pitch;    // number of columns per cell, including spacing
+    private char replacementSymbol = DEFAULT_REPLACEMENT_SYMBOL;
+
+    private final int[] rowLength = new int[HEIGHT];    // number of characters received per scanline
+    private byte[] codes = new byte[INITIAL_CAPACITY];  // partial encodings of pending cells, indexed by cell & mask
+    private int emitted;    // number of cells already passed to the listener
+
+    /**
+     * Constructs an IncrementalBrailleDecoder instance.
+     *
+     * @param decoder   the decoder used to decode the binary encodings of completed cells.
+     *                  Precondition: ( decoder != null )
+     * @param dotSymbol the character used to represent raised Braille dots.
+     * @param spacing   the number of characters used as spacing between Braille characters.
+     *                  Precondition: ( spacing >= 0 )
+     * @param listener  the listener receiving the decoded characters.
+     *                  Precondition: ( listener != null )
+     */
+    public IncrementalBrailleDecoder(CellDecoder decoder, char dotSymbol, int spacing,
+                                     DecodedCharacterListener listener) {
+        this.decoder = decoder;
+        this.dotSymbol = dotSymbol;
+        this.pitch = WIDTH + spacing;
+        this.listener = listener;
+    }
+
+    /**
+     * Sets the symbol incomplete cells are translated to by {@code endLine()}. Defaults to '?'.
+     *
+     * @param replacementSymbol the replacement symbol.
+     */
+    public void setReplacementSymbol(char replacementSymbol) {
+        this.replacementSymbol = replacementSymbol;
+    }
+
+    /**
+     * Appends a single character to the given scanline.
+     *
+     * @param row       the zero-based scanline the character belongs to.
+     * @param character the next character of the scanline.
+     * @return the number of characters decoded due to this call, or -1 if the row is invalid.
+     */
+    public int feed(int row, char character) {
+        if (row < 0 || row >= HEIGHT) return -1;
+
+        accept(row, character);
+        return emitCompleted();
+    }
+
+    /**
+     * Appends a fragment to the given scanline.
+     *
+     * @param row      the zero-based scanline the fragment belongs to.
+     * @param fragment the next characters of the scanline.
+     * @return the number of characters decoded due to this call, or -1 if the row or fragment is invalid.
+     */
+    public int feed(int row, CharSequence fragment) {
+        if (row < 0 || row >= HEIGHT || fragment == null) return -1;
+
+        int decoded = 0;
+        for (int i = 0; i < fragment.length(); i++) {
+            accept(row, fragment.charAt(i));
+            // emit after every character of the slowest scanline, keeping the ring buffer small
+            if (rowLength[row] == minRowLength())
+                decoded += emitCompleted();
+        }
+        return decoded;
+    }
+
+    /**
+     * Completes the current line. Cells not covered by all scanlines are passed to the listener as the
+     * replacement symbol. Afterwards, the decoder is ready for the next line.
+     *
+     * @return the number of characters passed to the listener due to this call.
+     */
+    public int endLine() {
+        int decoded = emitCompleted();
+        int total = cellCount(maxRowLength());
+
+        for (; emitted < total; emitted++, decoded++) {
+            codes[emitted & (codes.length - 1)] = 0;
+            listener.characterDecoded(emitted, replacementSymbol);
+        }
+
+        emitted = 0;
+        rowLength[0] = rowLength[1] = rowLength[2] = 0;
+        return decoded;
+    }
+
+    private void accept(int row, char character) {
+        int column = rowLength[row]++;
+        int cell = column / pitch;
+        int offset = column - cell * pitch;
+
+        if (cell - emitted >= codes.length)
+            grow(cell - emitted + 1);
+        if (offset < WIDTH && character == dotSymbol)
+            codes[cell & (codes.length - 1)] |= (byte) (1 << (offset * HEIGHT + row));
+    }
+
+    private int emitCompleted() {
+        int complete = (minRowLength() + pitch - WIDTH) / pitch;
+        int decoded = 0;
+
+        for (; emitted < complete; emitted++, decoded++) {
+            int index = emitted & (codes.length - 1);
+            listener.characterDecoded(emitted, decoder.decodeCell(codes[index]));
+            codes[index] = 0;
+        }
+        return decoded;
+    }
+
+    /**
+     * Enlarges the ring buffer to hold at least {@code pending} cells, keeping each pending cell at the index
+     * given by its number.
+     */
+    private void grow(int pending) {
+        int capacity = codes.length;
+        while (capacity < pending) {
+            capacity <<= 1;
+        }
+
+        byte[] newCodes = new byte[capacity];
+        int end = Math.min(cellCount(maxRowLength()), emitted + codes.length);
+        for (int cell = emitted; cell < end; cell++) {
+            newCodes[cell & (capacity - 1)] = codes[cell & (codes.length - 1)];
+        }
+        codes = newCodes;
+    }
+
+    private int cellCount(int length) {
+        return (length + pitch - 1) / pitch;
+    }
+
+    private int minRowLength() {
+        return Math.min(rowLength[0], Math.min(rowLength[1], rowLength[2]));
+    }
+
+    private int maxRowLength() {
+        return Math.max(rowLength[0], Math.max(rowLength[1], rowLength[2]));
+    }
+}
@@ -0,0 +1,33 @@
+package AB3.Interfaces;
+
+import AB3.Provided.ListNode;
+
+/**
+ * Interface of a cursor, which traverses the nodes of a {@code List} in both directions.
+ *
+ * <p>The cursor is positioned between two nodes: {@code next()} returns the node after the cursor,
+ * {@code previous()} the node before it. Both move the cursor by one node in O(1).</p>
+ */
+public interface BidirectionalListCursor extends ListCursor {
+
+    /**
+     * Checks whether the cursor has a node to visit in backward direction.
+     *
+     * @return {@code true} if {@code previous()} returns a node.
+     */
+    boolean hasPrevious();
+
+    /**
+     * Returns the previous node and moves the cursor backwards.
+     *
+     * @return the previous node, or {@code null} if the start of the list has been reached.
+     */
+    ListNode previous();
+
+    /**
+     * Returns the index of the node returned by the next call of {@code previous()}.
+     *
+     * @return the index of the previous node, or {@code -1} if the start has been reached.
+     */
+    int previousIndex();
+}
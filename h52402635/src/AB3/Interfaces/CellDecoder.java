@@ -0,0 +1,28 @@
+package AB3.Interfaces;
+
+/**
+ * Interface for decoders, which additionally decode packed Braille cells (binary encodings) into ASCII characters.
+ * <p>A packed cell uses the bit layout of {@code BrailleEncoder.toBinary}.</p>
+ */
+public interface CellDecoder extends Decoder {
+    /**
+     * Decodes a single packed Braille cell.
+     *
+     * @param cell the binary encoding of a Braille character.
+     * @return the corresponding ASCII character, or a space (' ') if the encoding is unknown.
+     */
+    char decodeCell(byte cell);
+
+    /**
+     * Decodes a sequence of packed Braille cells.
+     *
+     * @param cells      the packed cells to decode.
+     * @param offset     index of the first cell to decode.
+     * @param dest       the array receiving the decoded characters.
+     * @param destOffset index in {@code dest} receiving the first decoded character.
+     * @param length     number of cells to decode.
+     *                   <p>Precondition: ( cells != null ) && ( dest != null ) && ( length >= 0 ) &&
+     *                   ( offset + length <= cells.length ) && ( destOffset + length <= dest.length )</p>
+     */
+    void decodeCells(byte[] cells, int offset, char[] dest, int destOffset, int length);
+}
@@ -0,0 +1,16 @@
+package AB3.Interfaces;
+
+/**
+ * Interface for lists of {@code ListNode}, which can be traversed by a {@code ListCursor}.
+ */
+public interface CursorList extends List {
+
+    /**
+     * Creates a cursor, which starts at the specified index.
+     *
+     * @param index the index of the first node returned by the cursor.
+     *              <p>Precondition: ( index >= 0 ) && ( index <= size() )</p>
+     * @return the cursor.
+     */
+    ListCursor cursor(int index);
+}
@@ -0,0 +1,14 @@
+package AB3.Interfaces;
+
+/**
+ * Interface for listeners, which receive the characters decoded by an incremental decoder.
+ */
+public interface DecodedCharacterListener {
+    /**
+     * Called as soon as a Braille character is complete and has been decoded.
+     *
+     * @param position the zero-based number of the Braille character within the current line.
+     * @param symbol   the decoded ASCII character, or the replacement symbol for a malformed cell.
+     */
+    void characterDecoded(int position, char symbol);
+}
@@ -0,0 +1,33 @@
+package AB3.Interfaces;
+
+import AB3.Provided.ListNode;
+
+/**
+ * Interface of a cursor, which traverses the nodes of a {@code List} in order.
+ *
+ * <p>In contrast to {@code List.get(int)}, which walks the list from its head on every call, advancing a cursor
+ * costs O(1), so a whole list can be traversed in O(n).</p>
+ */
+public interface ListCursor {
+
+    /**
+     * Checks whether the cursor has another node to visit.
+     *
+     * @return {@code true} if {@code next()} returns a node.
+     */
+    boolean hasNext();
+
+    /**
+     * Returns the next node and advances the cursor.
+     *
+     * @return the next node, or {@code null} if the end of the list has been reached.
+     */
+    ListNode next();
+
+    /**
+     * Returns the index of the node returned by the next call of {@code next()}.
+     *
+     * @return the index of the next node, or the size of the list if the end has been reached.
+     */
+    int nextIndex();
+}
@@ -0,0 +1,14 @@
+package AB3.Interfaces;
+
+/**
+ * Interface for listeners, which are notified about Braille cells that cannot be read from the given scanlines.
+ */
+public interface MalformedCellListener {
+    /**
+     * Called for each malformed Braille cell, i.e. a cell not fully covered by all scanlines.
+     *
+     * @param position the zero-based number of the Braille character within the line.
+     * @param column   the zero-based column of the cell's first character within the scanlines.
+     */
+    void malformedCell(int position, int column);
+}
@@ -0,0 +1,35 @@
+package AB3.Interfaces;
+
+/**
+ * Interface for list buffers, which insert and delete ranges of Braille characters with a single splice.
+ *
+ * <p>Pasting or cutting {@code k} characters costs one walk to the position (or one shift of the stored cells)
+ * instead of {@code k} of them.</p>
+ */
+public interface RangeListBuffer extends ListBuffer {
+
+    /**
+     * Inserts a range of bitmaps, so that the first of them ends up at the specified position.
+     * Just like {@code AdvancedLineBuffer.insertAll()}, a position equal to the size of the buffer appends the
+     * characters, and any other position outside the buffer is rejected.
+     *
+     * @param position the index at which the first bitmap is inserted.
+     * @param bitmaps  the bitmap representations of Braille characters to be inserted.
+     *                 Precondition: ( bitmaps != null ) and no bitmap within the range is {@code null}
+     * @param offset   the index of the first bitmap within {@code bitmaps} to be inserted.
+     * @param length   the number of bitmaps to be inserted.
+     * @return {@code true} if the bitmaps were inserted, {@code false} if the position is invalid
+     * ( {@code position < 0} or {@code position > size()} ).
+     */
+    boolean insertAll(int position, char[][][] bitmaps, int offset, int length);
+
+    /**
+     * Deletes the characters in the range {@code [from, to)}.
+     *
+     * @param from the index of the first character to be deleted.
+     * @param to   the index after the last character to be deleted.
+     * @return {@code true} if the range was deleted, {@code false} if it is invalid
+     * ( {@code from < 0}, {@code to > size()} or {@code from > to} ).
+     */
+    boolean deleteRange(int from, int to);
+}
@@ -0,0 +1,36 @@
+package AB3.Interfaces;
+
+import AB3.Provided.ListNode;
+
+/**
+ * Interface for lists of {@code ListNode}, which insert and remove whole ranges of nodes as one splice.
+ *
+ * <p>In contrast to calling {@code insert(ListNode, int)} or {@code remove(int)} once per node, the list is walked
+ * to the start of the range only once, so a range of {@code k} nodes costs O(index + k) instead of
+ * O(k * index).</p>
+ */
+public interface SpliceList extends List {
+
+    /**
+     * Inserts the given nodes in order, so that the first of them ends up at the specified index.
+     * An index less than or equal to 0 inserts at the start, an index greater than or equal to the size of the list
+     * appends the nodes.
+     *
+     * @param nodes  the nodes to be inserted.
+     *               Precondition: ( nodes != null ) and no node within the range is {@code null}
+     * @param offset the index of the first node within {@code nodes} to be inserted.
+     * @param length the number of nodes to be inserted.
+     * @param index  the position at which the first node is inserted.
+     */
+    void insertAll(ListNode[] nodes, int offset, int length, int index);
+
+    /**
+     * Removes the nodes in the range {@code [from, to)}.
+     *
+     * @param from the index of the first node to be removed.
+     * @param to   the index after the last node to be removed.
+     * @return {@code true} if the range was removed, {@code false} if it is invalid
+     * ( {@code from < 0}, {@code to > size()} or {@code from > to} ).
+     */
+    boolean removeRange(int from, int to);
+}
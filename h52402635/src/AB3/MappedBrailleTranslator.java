@@ -0,0 +1,227 @@
+package AB3;
+
+import AB3.Interfaces.CellDecoder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The MappedBrailleTranslator class translates Braille documents stored in files into ASCII text without
+ * loading them onto the heap.
+ *
+ * <p>The source file is memory-mapped window by window using {@code FileChannel.map}. Each Braille line consists
+ * of three consecutive scanlines, which are located by scanning for newlines ({@code '\n'}, optionally preceded
+ * by {@code '\r'}). Cells are decoded straight from the mapped bytes by a {@code BrailleScanlineReader}, and each
+ * translated line is written to the target, followed by a newline, through a fixed-size output buffer.</p>
+ *
+ * <p>The source must use a single-byte encoding in which the dot and space symbols are ASCII characters.</p>
+ */
+public class MappedBrailleTranslator {
+    private static final int DEFAULT_WINDOW_SIZE = 1 << 26;
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+    private static final int CELL_BUFFER_SIZE = 1 << 13;
+    private static final int HEIGHT = 3;
+
+    private final BrailleScanlineReader reader;
+    private final int windowSize;
+
+    /**
+     * Constructs a MappedBrailleTranslator mapping the source in windows of 64 MiB.
+     *
+     * @param decoder the decoder used to decode the binary encodings of the cells.
+     *                Precondition: ( decoder != null )
+     */
+    public MappedBrailleTranslator(CellDecoder decoder) {
+        this(decoder, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Constructs a MappedBrailleTranslator.
+     *
+     * @param decoder    the decoder used to decode the binary encodings of the cells.
+     *                   Precondition: ( decoder != null )
+     * @param windowSize the number of bytes mapped at once. A window is enlarged if a single Braille line
+     *                   does not fit into it.
+     *                   Precondition: ( windowSize > 0 )
+     */
+    public MappedBrailleTranslator(CellDecoder decoder, int windowSize) {
+        this.reader = new BrailleScanlineReader(decoder);
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Returns the reader used to decode the scanlines, e.g. to configure the handling of malformed cells.
+     *
+     * @return the scanline reader.
+     */
+    public BrailleScanlineReader getReader() {
+        return reader;
+    }
+
+    /**
+     * Translates the Braille document stored in {@code source} and writes the ASCII text to {@code target}.
+     * An existing target file is overwritten.
+     *
+     * @param source    the path of the Braille document.
+     * @param target    the path of the text file to write.
+     * @param dotSymbol the character used to represent raised Braille dots.
+     * @param spacing   the number of spaces between individual Braille characters within the input.
+     *                  Precondition: ( spacing >= 0 )
+     * @return the number of translated Braille lines.
+     * @throws IOException if reading the source or writing the target fails.
+     */
+    public long translate(Path source, Path target, char dotSymbol, int spacing) throws IOException {
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            return translate(source, out, dotSymbol, spacing);
+        }
+    }
+
+    /**
+     * Translates the Braille document stored in {@code source} and writes the ASCII text to {@code target}.
+     * The target channel is not closed.
+     *
+     * @param source    the path of the Braille document.
+     * @param target    the channel receiving the text.
+     * @param dotSymbol the character used to represent raised Braille dots.
+     * @param spacing   the number of spaces between individual Braille characters within the input.
+     *                  Precondition: ( spacing >= 0 )
+     * @return the number of translated Braille lines.
+     * @throws IOException if reading the source or writing the target fails.
+     */
+    public long translate(Path source, WritableByteChannel target, char dotSymbol, int spacing) throws IOException {
+        ByteBuffer output = ByteBuffer.allocateDirect(OUTPUT_BUFFER_SIZE);
+        char[] cells = new char[CELL_BUFFER_SIZE];
+        MappedScanline[] scanlines = {new MappedScanline(), new MappedScanline(), new MappedScanline()};
+        long lines = 0;
+
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            long size = in.size();
+            long position = 0;
+            int window = windowSize;
+
+            while (position < size) {
+                int length = (int) Math.min(window, size - position);
+                MappedByteBuffer mapped = in.map(FileChannel.MapMode.READ_ONLY, position, length);
+                boolean lastWindow = position + length == size;
+                int offset = 0;
+
+                while (offset < length) {
+                    int next = locateScanlines(mapped, offset, length, lastWindow, scanlines);
+                    if (next < 0) break;
+
+                    writeLine(scanlines, dotSymbol, spacing, cells, output, target);
+                    offset = next;
+                    lines++;
+                }
+
+                if (offset == 0 && !lastWindow) {
+                    if (window > Integer.MAX_VALUE / 2)
+                        throw new IOException("Braille line exceeds the maximum window size");
+                    window *= 2;
+                } else {
+                    window = windowSize;
+                }
+                position += offset;
+            }
+        }
+
+        output.flip();
+        while (output.hasRemaining()) {
+            target.write(output);
+        }
+        return lines;
+    }
+
+    /**
+     * Locates the three scanlines of the Braille line starting at {@code offset}.
+     *
+     * @return the offset of the next Braille line, or -1 if the line is not completely contained in the window.
+     */
+    private static int locateScanlines(ByteBuffer mapped, int offset, int length, boolean lastWindow,
+                                       MappedScanline[] scanlines) {
+        for (int row = 0; row < HEIGHT; row++) {
+            int end = offset;
+            while (end < length && mapped.get(end) != '\n') {
+                end++;
+            }
+            if (end == length && !lastWindow) return -1;
+
+            int contentEnd = end > offset && mapped.get(end - 1) == '\r' ? end - 1 : end;
+            scanlines[row].set(mapped, offset, contentEnd - offset);
+            offset = Math.min(end + 1, length);
+        }
+        return offset;
+    }
+
+    private void writeLine(MappedScanline[] scanlines, char dotSymbol, int spacing, char[] cells,
+                           ByteBuffer output, WritableByteChannel target) throws IOException {
+        int count = reader.cellCount(scanlines, spacing);
+
+        for (int from = 0; from < count; from += cells.length) {
+            int n = reader.translate(scanlines, from, Math.min(count, from + cells.length), dotSymbol, spacing,
+                    cells, 0);
+            for (int i = 0; i < n; i++) {
+                put(output, (byte) cells[i], target);
+            }
+        }
+        put(output, (byte) '\n', target);
+    }
+
+    private static void put(ByteBuffer output, byte value, WritableByteChannel target) throws IOException {
+        if (!output.hasRemaining()) {
+            output.flip();
+            while (output.hasRemaining()) {
+                target.write(output);
+            }
+            output.clear();
+        }
+        output.put(value);
+    }
+
+    /**
+     * A scanline viewed as a {@code CharSequence} over a range of mapped bytes.
+     */
+    private static final class MappedScanline implements CharSequence {
+        private ByteBuffer buffer;
+        private int offset;
+        private int length;
+
+        private void set(ByteBuffer buffer, int offset, int length) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (buffer.get(offset + index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            MappedScanline sequence = new MappedScanline();
+            sequence.set(buffer, offset + start, end - start);
+            return sequence;
+        }
+
+        @Override
+        public String toString() {
+            char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                chars[i] = charAt(i);
+            }
+            return new String(chars);
+        }
+    }
+}
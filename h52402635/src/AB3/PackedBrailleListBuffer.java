@@ -0,0 +1,281 @@
+package AB3;
+
+import AB2.Interfaces.PackedFont;
+import AB3.Interfaces.RangeListBuffer;
+
+import java.util.Arrays;
+
+/**
+ * The {@code PackedBrailleListBuffer} class provides a buffer for storing and manipulating a sequence of Braille
+ * characters as packed cells (one {@code byte} per character, see {@code class AB2.BrailleCell}).
+ *
+ * <p>In contrast to {@code BrailleListBuffer}, which allocates a {@code ListNode} per character, the cells are
+ * kept in a single growable {@code byte[]}. Bitmaps are packed when they are added and expanded with the buffer's
+ * font when they are retrieved or rendered.</p>
+ *
+ * <p>Optionally, words are rendered from a {@code WordGlyphCache} (see {@code setWordCache()}). Word-cached
+ * rendering exists only for packed buffers, since the stored cells serve as the cache key without packing.</p>
+ */
+public class PackedBrailleListBuffer implements RangeListBuffer {
+    private static final int INITIAL_SIZE = 16;
+
+    private final PackedFont font;  // font used to pack and expand cells
+    private byte[] cells;
+    private int size;
+    private WordGlyphCache wordCache;   // optional cache of rendered words, see setWordCache()
+
+    /**
+     * Constructs a new, empty {@code PackedBrailleListBuffer} object.
+     *
+     * @param font the font used to pack bitmaps and to expand packed cells.
+     *             <p>Precondition: ( font != null )</p>
+     */
+    public PackedBrailleListBuffer(PackedFont font) {
+        this.font = font;
+        cells = new byte[INITIAL_SIZE];
+    }
+
+    /**
+     * Makes sure the buffer can hold at least the given number of cells.
+     *
+     * @param capacity the number of cells the buffer must be able to hold.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= cells.length) return;
+
+        cells = Arrays.copyOf(cells, Math.max(capacity, cells.length * 2));
+    }
+
+    /**
+     * Returns the number of Braille characters stored in the buffer.
+     *
+     * @return the number of stored cells.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds a new Braille character, represented as a 2-dimensional character array bitmap,
+     * to the end of the buffer. The bitmap is packed with the buffer's font.
+     *
+     * @param bitmap a 2-dimensional array of characters representing the element to be added.
+     *               If it is {@code null}, the method does not perform any action.
+     */
+    @Override
+    public void push(char[][] bitmap) {
+        if (bitmap == null) return;
+
+        ensureCapacity(size + 1);
+        cells[size++] = font.pack(bitmap);
+    }
+
+    /**
+     * Removes and retrieves the last Braille character from the buffer.
+     * If the buffer is empty, this method returns {@code null}.
+     *
+     * @return the (shared) bitmap of the removed character, or {@code null} if the buffer is empty.
+     */
+    @Override
+    public char[][] pop() {
+        if (size == 0) return null;
+
+        return font.getBitmap(cells[--size]);
+    }
+
+    /**
+     * Inserts a new Braille character bitmap at the specified position.
+     * A position less than or equal to 0 inserts at the start, a position greater than or equal to the size
+     * of the buffer appends the character. If the provided bitmap is null, the method does not perform any action.
+     *
+     * @param position the index at which the new Braille character bitmap will be inserted.
+     * @param bitmap   a 2-dimensional array of characters representing the Braille character
+     *                 to be inserted.
+     */
+    @Override
+    public void insert(int position, char[][] bitmap) {
+        if (bitmap == null) return;
+
+        position = Math.max(0, Math.min(position, size));
+
+        ensureCapacity(size + 1);
+        System.arraycopy(cells, position, cells, position + 1, size - position);
+        cells[position] = font.pack(bitmap);
+        size++;
+    }
+
+    /**
+     * Removes and retrieves the Braille character stored at the specified position. The cells after the
+     * position are shifted to the left. If the position is invalid, it returns {@code null}.
+     *
+     * @param position the index of the character to be removed.
+     * @return the (shared) bitmap of the removed character, or {@code null} if the position is invalid.
+     */
+    @Override
+    public char[][] delete(int position) {
+        if (position < 0 || position >= size) return null;
+
+        byte cell = cells[position];
+        System.arraycopy(cells, position + 1, cells, position, size - (position + 1));
+        size--;
+
+        return font.getBitmap(cell);
+    }
+
+    /**
+     * Inserts a range of bitmaps, so that the first of them ends up at the specified position. The stored cells
+     * are shifted only once. A position equal to the size of the buffer appends the characters.
+     *
+     * @param position the index at which the first bitmap is inserted.
+     * @param bitmaps  the bitmap representations of Braille characters to be inserted.
+     * @param offset   the index of the first bitmap within {@code bitmaps} to be inserted.
+     * @param length   the number of bitmaps to be inserted.
+     * @return {@code true} if the bitmaps were inserted, {@code false} if the position is invalid.
+     */
+    @Override
+    public boolean insertAll(int position, char[][][] bitmaps, int offset, int length) {
+        if (position < 0 || position > size) return false;
+
+        ensureCapacity(size + length);
+        System.arraycopy(cells, position, cells, position + length, size - position);
+        for (int i = 0; i < length; i++) {
+            cells[position + i] = font.pack(bitmaps[offset + i]);
+        }
+        size += length;
+        return true;
+    }
+
+    /**
+     * Deletes the Braille characters in the range {@code [from, to)}. The cells after the range are shifted
+     * to the left once.
+     *
+     * @param from the index of the first character to be deleted.
+     * @param to   the index after the last character to be deleted.
+     * @return {@code true} if the range was deleted, {@code false} if it is invalid.
+     */
+    @Override
+    public boolean deleteRange(int from, int to) {
+        if (from < 0 || to > size || from > to) return false;
+
+        System.arraycopy(cells, to, cells, from, size - to);
+        size -= to - from;
+        return true;
+    }
+
+    /**
+     * Clears the buffer. The internal array keeps its size, so refilling the buffer does not allocate.
+     */
+    @Override
+    public void clearBuffer() {
+        size = 0;
+    }
+
+    /**
+     * Sets the cache used to render words. If a cache is set, {@code renderScanlines()} splits the buffer into
+     * words (runs of non-blank cells) and copies the row fragments of each cached word into the scanlines as a
+     * whole. Words are looked up by the stored cells directly, without packing or copying them. Words not cached
+     * yet are rendered and stored in the cache. The cache can be shared by buffers with different fonts.
+     *
+     * @param wordCache the word cache, or {@code null} to render character by character.
+     */
+    public void setWordCache(WordGlyphCache wordCache) {
+        this.wordCache = wordCache;
+    }
+
+    /**
+     * Renders the contents of the buffer into an array of strings, each representing a scanline.
+     * Packed cells are expanded to the font's dot and space symbols.
+     *
+     * @param spacing the number of spaces (ASCII code 32) to insert between consecutive characters from the buffer
+     *                in the rendered output.
+     *                Precondition: ( spacing >= 0 )
+     * @return an array of strings, where each string represents a scanline of the combined buffered characters.
+     * Returns {@code null} if the buffer is empty.
+     */
+    @Override
+    public String[] renderScanlines(int spacing) {
+        if (size == 0) return null;
+        if (wordCache != null) return renderWords(spacing);
+
+        int height = font.getHeight();
+        int width = font.getWidth();
+        char[] row = new char[size * (width + spacing) - spacing];
+        String[] result = new String[height];
+
+        for (int i = 0; i < height; i++) {
+            int column = 0;
+            for (int j = 0; j < size - 1; j++, column += width + spacing) {
+                System.arraycopy(font.getSpacedGlyphRow(cells[j], i, spacing), 0, row, column, width + spacing);
+            }
+            System.arraycopy(font.getGlyphRow(cells[size - 1], i), 0, row, column, width);
+            result[i] = new String(row);
+        }
+        return result;
+    }
+
+    /**
+     * Renders the contents of the buffer word by word, using the word cache (see {@code setWordCache()}).
+     * Blank cells and words longer than the cache's maximum word length are rendered character by character.
+     *
+     * @param spacing the number of spaces (ASCII code 32) to insert between consecutive characters.
+     * @return an array of strings, where each string represents a scanline of the combined buffered characters.
+     */
+    private String[] renderWords(int spacing) {
+        int height = font.getHeight();
+        int step = font.getWidth() + spacing;
+        int length = size * step - spacing;
+        char[][] scanlines = new char[height][length];
+        int maxWordLength = wordCache.getMaxWordLength();
+
+        // a single lock for the whole rendering is cheaper than one per lookup
+        synchronized (wordCache) {
+            for (int j = 0; j < size; ) {
+                int end = j;
+                while (end < size && cells[end] != 0) end++;
+                while (end < size && cells[end] == 0) end++;   // the blanks after a word are cached with it
+
+                if (cells[j] == 0 || end - j > maxWordLength) {
+                    end = cells[j] == 0 ? j + 1 : end;
+                    for (; j < end; j++) {
+                        copyCell(cells[j], spacing, scanlines, j * step);
+                    }
+                    continue;
+                }
+
+                char[][] fragments = wordCache.get(font, cells, j, end - j, spacing);
+                if (fragments == null) {
+                    fragments = new char[height][(end - j) * step];
+                    for (int k = j; k < end; k++) {
+                        copyCell(cells[k], spacing, fragments, (k - j) * step);
+                    }
+                    wordCache.put(font, cells, j, end - j, spacing, fragments);
+                }
+
+                int column = j * step;
+                for (int i = 0; i < height; i++) {
+                    System.arraycopy(fragments[i], 0, scanlines[i], column,
+                            Math.min(fragments[i].length, length - column));
+                }
+                j = end;
+            }
+        }
+
+        String[] result = new String[height];
+        for (int i = 0; i < height; i++) {
+            result[i] = new String(scanlines[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Copies the rows of a cell, each followed by spacing as far as the target rows have room for it.
+     */
+    private void copyCell(byte cell, int spacing, char[][] target, int column) {
+        int length = Math.min(font.getWidth() + spacing, target[0].length - column);
+
+        for (int i = 0; i < target.length; i++) {
+            System.arraycopy(font.getSpacedGlyphRow(cell, i, spacing), 0, target[i], column, length);
+        }
+    }
+}
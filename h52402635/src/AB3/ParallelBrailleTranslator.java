@@ -0,0 +1,203 @@
+package AB3;
+
+import AB3.Interfaces.CellDecoder;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The ParallelBrailleTranslator class translates documents consisting of many Braille lines into ASCII text
+ * using a {@code ForkJoinPool}.
+ *
+ * <p>The document is split into chunks of about {@code chunkSize} Braille characters: short lines are grouped,
+ * and lines longer than a chunk are split into cell-aligned column ranges. Each chunk is decoded by a
+ * {@code BrailleScanlineReader} into a disjoint range of the line's result, so the output is reassembled in order
+ * without further copying.</p>
+ *
+ * <p>The decoder is shared between all workers and must therefore be stateless (e.g. {@code BrailleTableDecoder}).</p>
+ */
+public class ParallelBrailleTranslator implements AutoCloseable {
+    private static final int DEFAULT_CHUNK_SIZE = 16384;
+    private static final char DEFAULT_REPLACEMENT_SYMBOL = '?';
+
+    private final CellDecoder decoder;
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
+    private final int chunkSize;
+    private char replacementSymbol = DEFAULT_REPLACEMENT_SYMBOL;
+    private final AtomicLong malformedCount = new AtomicLong();
+
+    /**
+     * Constructs a ParallelBrailleTranslator using the common pool and chunks of 16384 Braille characters.
+     *
+     * @param decoder the stateless decoder shared by all workers.
+     *                Precondition: ( decoder != null )
+     */
+    public ParallelBrailleTranslator(CellDecoder decoder) {
+        this(decoder, ForkJoinPool.commonPool(), false, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructs a ParallelBrailleTranslator with its own pool. The pool is shut down by {@code close()}.
+     *
+     * @param decoder     the stateless decoder shared by all workers.
+     *                    Precondition: ( decoder != null )
+     * @param parallelism the number of worker threads.
+     *                    Precondition: ( parallelism > 0 )
+     * @param chunkSize   the number of Braille characters decoded by one task.
+     *                    Precondition: ( chunkSize > 0 )
+     */
+    public ParallelBrailleTranslator(CellDecoder decoder, int parallelism, int chunkSize) {
+        this(decoder, new ForkJoinPool(parallelism), true, chunkSize);
+    }
+
+    private ParallelBrailleTranslator(CellDecoder decoder, ForkJoinPool pool, boolean ownsPool, int chunkSize) {
+        this.decoder = decoder;
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Sets the symbol malformed cells are translated to. Defaults to '?'.
+     *
+     * @param replacementSymbol the replacement symbol.
+     */
+    public void setReplacementSymbol(char replacementSymbol) {
+        this.replacementSymbol = replacementSymbol;
+    }
+
+    /**
+     * Returns the number of malformed cells encountered since construction.
+     *
+     * @return the number of malformed cells.
+     */
+    public long getMalformedCount() {
+        return malformedCount.get();
+    }
+
+    /**
+     * Translates the given Braille lines into ASCII text.
+     *
+     * @param brailleLines the lines of the document, each given as an array of its three scanlines.
+     *                     Invalid lines are translated to an empty string.
+     * @param dotSymbol    the character used to represent raised Braille dots.
+     * @param spacing      the number of spaces between individual Braille characters within the input.
+     *                     Precondition: ( spacing >= 0 )
+     * @return an array holding the translation of each line, or {@code null} if {@code brailleLines} is null.
+     */
+    public String[] translate(CharSequence[][] brailleLines, char dotSymbol, int spacing) {
+        if (brailleLines == null) return null;
+
+        BrailleScanlineReader counter = new BrailleScanlineReader(decoder);
+        char[][] results = new char[brailleLines.length][];
+        ArrayList<int[]> segments = new ArrayList<>();  // { line, from, to }
+        ArrayList<Integer> taskStarts = new ArrayList<>();
+        int taskCells = chunkSize;
+
+        for (int line = 0; line < brailleLines.length; line++) {
+            int count = counter.cellCount(brailleLines[line], spacing);
+            results[line] = new char[count];
+
+            for (int from = 0; from < count; ) {
+                if (taskCells >= chunkSize) {
+                    taskStarts.add(segments.size());
+                    taskCells = 0;
+                }
+                int to = Math.min(count, from + chunkSize - taskCells);
+                segments.add(new int[]{line, from, to});
+                taskCells += to - from;
+                from = to;
+            }
+        }
+        taskStarts.add(segments.size());
+
+        Job job = new Job(decoder, replacementSymbol, malformedCount, brailleLines, dotSymbol, spacing, results,
+                segments, taskStarts);
+        pool.invoke(new TranslateTask(job, 0, taskStarts.size() - 1));
+
+        String[] translation = new String[results.length];
+        for (int i = 0; i < results.length; i++) {
+            translation[i] = new String(results[i]);
+        }
+        return translation;
+    }
+
+    /**
+     * Shuts down the pool, if it was created by this translator.
+     */
+    @Override
+    public void close() {
+        if (ownsPool)
+            pool.shutdown();
+    }
+
+    /**
+     * The state shared by all tasks of one call of {@code translate()}.
+     */
+    private static final class Job {
+        private final CellDecoder decoder;
+        private final char replacementSymbol;
+        private final AtomicLong malformedCount;
+        private final CharSequence[][] brailleLines;
+        private final char dotSymbol;
+        private final int spacing;
+        private final char[][] results;
+        private final ArrayList<int[]> segments;    // { line, from, to }
+        private final ArrayList<Integer> taskStarts;
+
+        private Job(CellDecoder decoder, char replacementSymbol, AtomicLong malformedCount,
+                    CharSequence[][] brailleLines, char dotSymbol, int spacing, char[][] results,
+                    ArrayList<int[]> segments, ArrayList<Integer> taskStarts) {
+            this.decoder = decoder;
+            this.replacementSymbol = replacementSymbol;
+            this.malformedCount = malformedCount;
+            this.brailleLines = brailleLines;
+            this.dotSymbol = dotSymbol;
+            this.spacing = spacing;
+            this.results = results;
+            this.segments = segments;
+            this.taskStarts = taskStarts;
+        }
+    }
+
+    /**
+     * Decodes the chunks in the range {@code [firstChunk, lastChunk)}, splitting the range in halves until
+     * a single chunk remains.
+     */
+    private static final class TranslateTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Job job;
+        private final int firstChunk;
+        private final int lastChunk;
+
+        private TranslateTask(Job job, int firstChunk, int lastChunk) {
+            this.job = job;
+            this.firstChunk = firstChunk;
+            this.lastChunk = lastChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (lastChunk - firstChunk > 1) {
+                int middle = (firstChunk + lastChunk) >>> 1;
+                invokeAll(new TranslateTask(job, firstChunk, middle), new TranslateTask(job, middle, lastChunk));
+                return;
+            }
+            if (lastChunk == firstChunk) return;
+
+            BrailleScanlineReader reader = new BrailleScanlineReader(job.decoder);
+            reader.setReplacementSymbol(job.replacementSymbol);
+
+            for (int i = job.taskStarts.get(firstChunk); i < job.taskStarts.get(lastChunk); i++) {
+                int[] segment = job.segments.get(i);
+                reader.translate(job.brailleLines[segment[0]], segment[1], segment[2], job.dotSymbol, job.spacing,
+                        job.results[segment[0]], segment[1]);
+            }
+            job.malformedCount.addAndGet(reader.getMalformedCount());
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package AB3;
+
+import AB2.Interfaces.LineBufferSnapshot;
+import AB2.Interfaces.SnapshotLineBuffer;
+
+import java.nio.CharBuffer;
+
+/**
+ * The {@code RopeLineBuffer} class implements a line buffer backed by a {@code BrailleRope}.
+ *
+ * <p>Insert, delete and indexed access are O(log n), so the buffer can hold very long lines (e.g. whole books)
+ * without shifting characters. Since the rope allocates one node per character, the buffer has no spare
+ * capacity: {@code size()} equals {@code count()}, and expanding or reducing the buffer has no effect.</p>
+ *
+ * <p>The buffer follows the validation rules of {@code AB2.BrailleLineBuffer}, so it can be swapped into
+ * {@code AB2.AdvancedLinePrinter}.</p>
+ * <p>As the rope is persistent, snapshots of the buffer are taken and restored in O(1).</p>
+ */
+public class RopeLineBuffer implements SnapshotLineBuffer {
+    private final BrailleRope rope;
+
+    /**
+     * Snapshot of a {@code RopeLineBuffer}, sharing all nodes with the buffer.
+     */
+    private static final class RopeSnapshot implements LineBufferSnapshot {
+        private final BrailleRope rope;
+
+        private RopeSnapshot(BrailleRope rope) {
+            this.rope = rope;
+        }
+
+        /**
+         * Returns the number of characters captured in the snapshot.
+         *
+         * @return the number of characters of the snapshot.
+         */
+        @Override
+        public int count() {
+            return rope.size();
+        }
+    }
+
+    /**
+     * Constructs an empty {@code RopeLineBuffer} object.
+     */
+    public RopeLineBuffer() {
+        rope = new BrailleRope();
+    }
+
+    /**
+     * Method retrieves the number of Braille characters the buffer can store without allocation. For a rope
+     * this is the number of stored characters.
+     *
+     * @return size of buffer
+     */
+    @Override
+    public int size() {
+        return rope.size();
+    }
+
+    /**
+     * Method retrieves the number of characters stored within the buffer.
+     *
+     * @return number of Braille characters currently stored within the buffer
+     */
+    @Override
+    public int count() {
+        return rope.size();
+    }
+
+    /**
+     * Has no effect, as the rope allocates its nodes on demand.
+     */
+    @Override
+    public void expandBuffer() {
+    }
+
+    /**
+     * Has no effect, as the rope releases its nodes on deletion.
+     */
+    @Override
+    public void reduceBuffer() {
+    }
+
+    /**
+     * Has no effect, as the rope allocates its nodes on demand.
+     *
+     * @param capacity the number of characters the buffer must be able to store.
+     */
+    @Override
+    public void ensureCapacity(int capacity) {
+    }
+
+    /**
+     * Method pushes (appends) a Braille character to the end of the buffer in O(log n).
+     *
+     * @param bitmap the bitmap representation of a Braille character to be appended to the buffer.
+     *               Precondition: ( bitmap != null )
+     */
+    @Override
+    public void push(char[][] bitmap) {
+        rope.insert(rope.size(), bitmap);
+    }
+
+    /**
+     * Method pushes (appends) a range of bitmaps to the end of the buffer. The bitmaps are built into a balanced
+     * rope, which is concatenated with the buffer's rope in O(log n).
+     *
+     * @param bitmaps the bitmap representations of Braille characters to be appended to the buffer.
+     *                Precondition: ( bitmaps != null ) and no bitmap within the range is {@code null}
+     * @param offset  the index of the first bitmap within {@code bitmaps} to be appended.
+     * @param length  the number of bitmaps to be appended.
+     */
+    @Override
+    public void pushAll(char[][][] bitmaps, int offset, int length) {
+        rope.insertAll(rope.size(), bitmaps, offset, length);
+    }
+
+    /**
+     * Method retrieves and removes the last Braille character from the buffer in O(log n). If the buffer is empty,
+     * {@code null} is returned instead.
+     *
+     * @return {@code null} if buffer is empty, or the bitmap of the character at the end of the buffer.
+     */
+    @Override
+    public char[][] pop() {
+        if (rope.size() == 0) return null;
+
+        return rope.remove(rope.size() - 1);
+    }
+
+    /**
+     * Method retrieves the bitmap of the Braille character at the specified position in O(log n) without removing it.
+     *
+     * @param position the index of the character.
+     * @return the bitmap at the specified position, or {@code null} if the position is invalid.
+     */
+    @Override
+    public char[][] get(int position) {
+        return rope.get(position);
+    }
+
+    /**
+     * Captures the current content of the buffer in O(1). The snapshot shares all nodes with the buffer.
+     *
+     * @return an immutable snapshot of the buffer's content.
+     */
+    @Override
+    public LineBufferSnapshot snapshot() {
+        return new RopeSnapshot(rope.copy());
+    }
+
+    /**
+     * Replaces the content of the buffer by the content captured in the given snapshot in O(1).
+     *
+     * @param snapshot a snapshot taken from a {@code RopeLineBuffer}.
+     * @return {@code true} if the content was restored, {@code false} if the snapshot is {@code null} or
+     * was not taken from a {@code RopeLineBuffer}.
+     */
+    @Override
+    public boolean restore(LineBufferSnapshot snapshot) {
+        if (!(snapshot instanceof RopeSnapshot)) return false;
+
+        rope.assign(((RopeSnapshot) snapshot).rope);
+        return true;
+    }
+
+    /**
+     * Method inserts a Braille character at the specified position in O(log n). The characters at and right of the
+     * position move one index to the right.
+     *
+     * @param cursorPosition the index at which the character has to be inserted.
+     *                       If the position is invalid (negative or outside the range of stored characters),
+     *                       no insertion is performed.
+     * @param bitmap         the bitmap representation of a Braille character to be inserted.
+     *                       Precondition: ( bitmap != null )
+     * @return {@code true} if the character was successfully inserted,
+     * {@code false} otherwise (e.g., invalid position or empty buffer).
+     */
+    @Override
+    public boolean insert(int cursorPosition, char[][] bitmap) {
+        if (cursorPosition >= rope.size() || cursorPosition < 0)
+            return false;
+
+        rope.insert(cursorPosition, bitmap);
+        return true;
+    }
+
+    /**
+     * Method deletes the Braille character at the specified position in O(log n).
+     *
+     * @param cursorPosition the index of the character to be deleted.
+     *                       If the position is invalid (negative or outside the range of stored characters),
+     *                       no deletion is performed.
+     * @return {@code true} if the character was successfully deleted,
+     * {@code false} otherwise (e.g., invalid position or empty buffer).
+     */
+    @Override
+    public boolean delete(int cursorPosition) {
+        return rope.remove(cursorPosition) != null;
+    }
+
+    /**
+     * Method inserts a range of bitmaps at the specified position. The bitmaps are built into a balanced rope,
+     * which is spliced into the buffer's rope in O(log n).
+     *
+     * @param position the index at which the first bitmap has to be inserted ( {@code position == count()} appends).
+     * @param bitmaps  the bitmap representations of Braille characters to be inserted.
+     *                 Precondition: ( bitmaps != null ) and no bitmap within the range is {@code null}
+     * @param offset   the index of the first bitmap within {@code bitmaps} to be inserted.
+     * @param length   the number of bitmaps to be inserted.
+     * @return {@code true} if the bitmaps were inserted, {@code false} if the position is invalid.
+     */
+    @Override
+    public boolean insertAll(int position, char[][][] bitmaps, int offset, int length) {
+        if (position > rope.size() || position < 0)
+            return false;
+
+        rope.insertAll(position, bitmaps, offset, length);
+        return true;
+    }
+
+    /**
+     * Method deletes the characters in the range {@code [from, to)} by splitting the rope twice, in O(log n).
+     *
+     * @param from the index of the first character to be deleted.
+     * @param to   the index after the last character to be deleted.
+     * @return {@code true} if the range was deleted, {@code false} if it is invalid.
+     */
+    @Override
+    public boolean deleteRange(int from, int to) {
+        if (from < 0 || to > rope.size() || from > to)
+            return false;
+
+        rope.removeRange(from, to);
+        return true;
+    }
+
+    /**
+     * Method clears the content of the buffer. Snapshots and slices taken before are not affected.
+     */
+    @Override
+    public void clearBuffer() {
+        rope.clear();
+    }
+
+    /**
+     * Returns an independent rope sharing structure with this buffer, holding the characters within the given
+     * range. The slice is created in O(log n), and later modifications of the buffer do not affect it (and vice
+     * versa).
+     *
+     * @param from the index of the first character (inclusive).
+     *             <p>Precondition: ( from >= 0 ) && ( from <= to ) && ( to <= count() )</p>
+     * @param to   the index after the last character (exclusive).
+     * @return the rope holding the characters of the range.
+     */
+    public BrailleRope slice(int from, int to) {
+        return rope.slice(from, to);
+    }
+
+    /**
+     * Renders the contents of the buffer into an array of strings, each representing a scanline.
+     * Characters in the buffer are aligned horizontally with spacing between them.
+     *
+     * @param spacing the number of spaces (ASCII code 32) to insert between consecutive characters from the buffer
+     *                in the rendered output.
+     *                Precondition: (spacing >= 0)
+     * @return an array of strings, where each string represents a scanline of the combined buffered characters.
+     * Returns {@code null} if the buffer is empty.
+     */
+    @Override
+    public String[] renderScanlines(int spacing) {
+        return rope.renderScanlines(0, rope.size(), spacing);
+    }
+
+    /**
+     * Method retrieves the number of scanlines (rows) a rendering of the buffer consists of.
+     *
+     * @return the height of the stored bitmaps, or {@code 0} if the buffer is empty.
+     */
+    @Override
+    public int scanlineCount() {
+        return rope.size() == 0 ? 0 : rope.get(0).length;
+    }
+
+    /**
+     * Method retrieves the length of each scanline rendered with the given spacing.
+     *
+     * @param spacing the number of spaces between consecutive characters.
+     *                Precondition: (spacing >= 0)
+     * @return {@code count() * (width + spacing) - spacing}, or {@code 0} if the buffer is empty.
+     */
+    @Override
+    public int scanlineLength(int spacing) {
+        return rope.size() == 0 ? 0 : rope.size() * (rope.get(0)[0].length + spacing) - spacing;
+    }
+
+    /**
+     * Renders the contents of the buffer into the given rows, walking the rope's nodes in order.
+     * No memory is allocated.
+     *
+     * @param spacing the number of spaces (ASCII code 32) to insert between consecutive characters.
+     *                Precondition: (spacing >= 0)
+     * @param target  the rows the scanlines are written to, starting at column 0.
+     *                <p>Precondition: ( target.length >= scanlineCount() ) and each row holds at least
+     *                {@code scanlineLength(spacing)} characters</p>
+     * @return the number of characters written to each row.
+     */
+    @Override
+    public int renderScanlines(int spacing, char[][] target) {
+        if (rope.size() == 0) return 0;
+
+        return rope.renderScanlines(0, rope.size(), spacing, target);
+    }
+
+    /**
+     * Renders a single scanline of the buffer into the given {@code CharBuffer}, starting at its current position.
+     * No memory is allocated.
+     *
+     * @param row     the zero-based index of the scanline.
+     *                <p>Precondition: ( row >= 0 ) && ( row < scanlineCount() )</p>
+     * @param spacing the number of spaces (ASCII code 32) to insert between consecutive characters.
+     *                Precondition: (spacing >= 0)
+     * @param target  the buffer the scanline is written to.
+     *                <p>Precondition: ( target.remaining() >= scanlineLength(spacing) )</p>
+     */
+    @Override
+    public void renderScanline(int row, int spacing, CharBuffer target) {
+        rope.renderScanline(0, rope.size(), row, spacing, target);
+    }
+}
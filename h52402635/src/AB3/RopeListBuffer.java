@@ -0,0 +1,136 @@
+package AB3;
+
+import AB3.Interfaces.RangeListBuffer;
+
+/**
+ * The {@code RopeListBuffer} class provides a buffer for storing and manipulating a sequence of Braille characters
+ * using a {@code BrailleRope}.
+ *
+ * <p>It offers the same operations as {@code BrailleListBuffer}, but insert, delete and indexed access are
+ * O(log n) instead of O(n), so it scales to documents with millions of characters. A window of the buffer can be
+ * rendered without touching the characters outside of it (see {@code renderScanlines(int, int, int)}).</p>
+ */
+public class RopeListBuffer implements RangeListBuffer {
+    private final BrailleRope rope;
+
+    /**
+     * Constructs a new, empty {@code RopeListBuffer} object.
+     */
+    public RopeListBuffer() {
+        rope = new BrailleRope();
+    }
+
+    @Override
+    public int size() {
+        return rope.size();
+    }
+
+    @Override
+    public void push(char[][] bitmap) {
+        if (bitmap == null) return;
+
+        rope.insert(rope.size(), bitmap);
+    }
+
+    @Override
+    public char[][] pop() {
+        if (rope.size() == 0) return null;
+
+        return rope.remove(rope.size() - 1);
+    }
+
+    /**
+     * Inserts a new Braille character bitmap at the specified position.
+     * A position less than or equal to 0 inserts at the start, a position greater than or equal to the size
+     * of the buffer appends the character. If the provided bitmap is null, the method does not perform any action.
+     *
+     * @param position the index at which the new Braille character bitmap will be inserted.
+     * @param bitmap   a 2-dimensional array of characters representing the Braille character
+     *                 to be inserted.
+     */
+    @Override
+    public void insert(int position, char[][] bitmap) {
+        if (bitmap == null) return;
+
+        rope.insert(Math.max(0, Math.min(position, rope.size())), bitmap);
+    }
+
+    @Override
+    public char[][] delete(int position) {
+        return rope.remove(position);
+    }
+
+    /**
+     * Inserts a range of bitmaps in O(length + log n), so that the first of them ends up at the specified
+     * position. A position equal to the size of the buffer appends the characters.
+     *
+     * @param position the index at which the first bitmap is inserted.
+     * @param bitmaps  the bitmap representations of Braille characters to be inserted.
+     * @param offset   the index of the first bitmap within {@code bitmaps} to be inserted.
+     * @param length   the number of bitmaps to be inserted.
+     * @return {@code true} if the bitmaps were inserted, {@code false} if the position is invalid.
+     */
+    @Override
+    public boolean insertAll(int position, char[][][] bitmaps, int offset, int length) {
+        if (position < 0 || position > rope.size()) return false;
+
+        rope.insertAll(position, bitmaps, offset, length);
+        return true;
+    }
+
+    @Override
+    public boolean deleteRange(int from, int to) {
+        if (from < 0 || to > rope.size() || from > to) return false;
+
+        rope.removeRange(from, to);
+        return true;
+    }
+
+    @Override
+    public void clearBuffer() {
+        rope.clear();
+    }
+
+    /**
+     * Returns an independent rope sharing structure with this buffer, holding the characters within the given
+     * range. The slice is created in O(log n), and later modifications of the buffer do not affect it (and vice
+     * versa).
+     *
+     * @param from the index of the first character (inclusive).
+     *             <p>Precondition: ( from >= 0 ) && ( from <= to ) && ( to <= size() )</p>
+     * @param to   the index after the last character (exclusive).
+     * @return the rope holding the characters of the range.
+     */
+    public BrailleRope slice(int from, int to) {
+        return rope.slice(from, to);
+    }
+
+    /**
+     * Renders the contents of the buffer into an array of strings, each representing a scanline.
+     * Characters in the buffer are aligned horizontally with spacing between them.
+     *
+     * @param spacing the number of spaces (ASCII code 32) to insert between consecutive characters from the buffer
+     *                in the rendered output.
+     *                Precondition: ( spacing >= 0 )
+     * @return an array of strings, where each string represents a scanline of the combined buffered characters.
+     * Returns {@code null} if the buffer is empty.
+     */
+    @Override
+    public String[] renderScanlines(int spacing) {
+        return rope.renderScanlines(0, rope.size(), spacing);
+    }
+
+    /**
+     * Renders a window of the buffer into an array of strings, each representing a scanline.
+     *
+     * @param from    the index of the first character to be rendered (inclusive).
+     * @param to      the index after the last character to be rendered (exclusive).
+     * @param spacing the number of spaces (ASCII code 32) to insert between consecutive characters.
+     *                Precondition: ( spacing >= 0 )
+     * @return an array of strings, where each string represents a scanline of the window.
+     * Returns {@code null} if the window is empty or invalid.
+     */
+    public String[] renderScanlines(int from, int to, int spacing) {
+        return rope.renderScanlines(from, to, spacing);
+    }
+}
@@ -0,0 +1,392 @@
+package AB3;
+
+import AB2.Interfaces.PackedFont;
+import AB3.Interfaces.RangeListBuffer;
+
+import java.util.Arrays;
+
+/**
+ * The {@code UnrolledBrailleListBuffer} class provides a buffer for storing and manipulating a sequence of Braille
+ * characters using an unrolled linked list of packed cells.
+ *
+ * <p>Each list node (block) holds a fixed-size array of packed cells (one {@code byte} per character, see
+ * {@code class AB2.BrailleCell}). Blocks are split when an insertion hits a full block. Every block except the last
+ * one holds at least {@code blockSize / 2} cells: a block that falls below this after a deletion borrows cells from
+ * its successor, or is merged with it if both fit into one block. Compared to {@code BrailleListBuffer}, which
+ * allocates a {@code ListNode} and references a bitmap per character, this drops the per-character overhead and
+ * lets rendering read consecutive bytes instead of chasing one pointer per character.</p>
+ *
+ * <p>Bitmaps are packed when they are added and expanded with the buffer's font when they are retrieved or
+ * rendered.</p>
+ */
+public class UnrolledBrailleListBuffer implements RangeListBuffer {
+    private static final int DEFAULT_BLOCK_SIZE = 64;
+
+    /**
+     * A node of the unrolled list, holding up to {@code blockSize} packed cells.
+     */
+    private static final class Block {
+        private final byte[] cells;
+        private int count;
+        private Block previous;
+        private Block next;
+
+        private Block(int blockSize) {
+            cells = new byte[blockSize];
+        }
+    }
+
+    private final PackedFont font;  // font used to pack and expand cells
+    private final int blockSize;
+    private Block head;
+    private Block tail;
+    private int size;
+
+    /**
+     * Constructs a new, empty {@code UnrolledBrailleListBuffer} object with blocks of 64 cells.
+     *
+     * @param font the font used to pack bitmaps and to expand packed cells.
+     *             <p>Precondition: ( font != null )</p>
+     */
+    public UnrolledBrailleListBuffer(PackedFont font) {
+        this(font, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Constructs a new, empty {@code UnrolledBrailleListBuffer} object.
+     *
+     * @param font      the font used to pack bitmaps and to expand packed cells.
+     *                  <p>Precondition: ( font != null )</p>
+     * @param blockSize the number of cells each block can hold.
+     *                  <p>Precondition: ( blockSize >= 2 )</p>
+     */
+    public UnrolledBrailleListBuffer(PackedFont font, int blockSize) {
+        this.font = font;
+        this.blockSize = blockSize;
+        clearBuffer();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void push(char[][] bitmap) {
+        if (bitmap == null) return;
+
+        if (tail.count == blockSize) {
+            linkAfter(tail, new Block(blockSize));
+        }
+        tail.cells[tail.count++] = font.pack(bitmap);
+        size++;
+    }
+
+    @Override
+    public char[][] pop() {
+        if (size == 0) return null;
+
+        if (tail.count == 0) {
+            unlink(tail);
+        }
+        byte cell = tail.cells[--tail.count];
+        size--;
+
+        if (tail.count == 0 && tail != head) {
+            unlink(tail);
+        }
+        return font.getBitmap(cell);
+    }
+
+    /**
+     * Inserts a new Braille character bitmap at the specified position.
+     * A position less than or equal to 0 inserts at the start, a position greater than or equal to the size
+     * of the buffer appends the character. If the provided bitmap is null, the method does not perform any action.
+     *
+     * <p>If the block holding the position is full, it is split into two half-full blocks first.</p>
+     *
+     * @param position the index at which the new Braille character bitmap will be inserted.
+     * @param bitmap   a 2-dimensional array of characters representing the Braille character
+     *                 to be inserted.
+     */
+    @Override
+    public void insert(int position, char[][] bitmap) {
+        if (bitmap == null) return;
+        if (position >= size) {
+            push(bitmap);
+            return;
+        }
+
+        position = Math.max(0, position);
+
+        Block block = head;
+        while (position > block.count) {
+            position -= block.count;
+            block = block.next;
+        }
+
+        if (block.count == blockSize) {
+            Block second = split(block);
+            if (position > block.count) {
+                position -= block.count;
+                block = second;
+            }
+        }
+
+        System.arraycopy(block.cells, position, block.cells, position + 1, block.count - position);
+        block.cells[position] = font.pack(bitmap);
+        block.count++;
+        size++;
+    }
+
+    /**
+     * Removes and retrieves the Braille character bitmap stored at the specified position. If the block holding
+     * the position is less than half full afterwards, it is rebalanced with its successor.
+     *
+     * @param position the index of the element to be removed.
+     * @return the (shared) bitmap of the removed element, or {@code null} if the position is invalid.
+     */
+    @Override
+    public char[][] delete(int position) {
+        if (position < 0 || position >= size) return null;
+
+        Block block = head;
+        while (position >= block.count) {
+            position -= block.count;
+            block = block.next;
+        }
+
+        byte cell = block.cells[position];
+        System.arraycopy(block.cells, position + 1, block.cells, position, block.count - (position + 1));
+        block.count--;
+        size--;
+
+        if (block.count == 0 && block != head) {
+            unlink(block);
+        } else {
+            rebalance(block);
+        }
+        return font.getBitmap(cell);
+    }
+
+    /**
+     * Inserts a range of bitmaps, so that the first of them ends up at the specified position. A position equal
+     * to the size of the buffer appends the characters.
+     *
+     * <p>The block holding the position is cut there. The new cells fill the rest of the block and as many full
+     * blocks as needed, followed by the cells that were cut off, so no cell is shifted more than once.</p>
+     *
+     * @param position the index at which the first bitmap is inserted.
+     * @param bitmaps  the bitmap representations of Braille characters to be inserted.
+     * @param offset   the index of the first bitmap within {@code bitmaps} to be inserted.
+     * @param length   the number of bitmaps to be inserted.
+     * @return {@code true} if the bitmaps were inserted, {@code false} if the position is invalid.
+     */
+    @Override
+    public boolean insertAll(int position, char[][][] bitmaps, int offset, int length) {
+        if (position < 0 || position > size) return false;
+        if (length <= 0) return true;
+
+        Block block = head;
+        while (position > block.count) {
+            position -= block.count;
+            block = block.next;
+        }
+
+        byte[] suffix = Arrays.copyOfRange(block.cells, position, block.count);
+        block.count = position;
+
+        for (int i = 0; i < length; i++) {
+            if (block.count == blockSize) {
+                linkAfter(block, new Block(blockSize));
+                block = block.next;
+            }
+            block.cells[block.count++] = font.pack(bitmaps[offset + i]);
+        }
+
+        int copied = Math.min(suffix.length, blockSize - block.count);
+        System.arraycopy(suffix, 0, block.cells, block.count, copied);
+        block.count += copied;
+
+        if (copied < suffix.length) {
+            linkAfter(block, new Block(blockSize));
+            block = block.next;
+            block.count = suffix.length - copied;
+            System.arraycopy(suffix, copied, block.cells, 0, block.count);
+        }
+        size += length;
+
+        rebalance(block);
+        return true;
+    }
+
+    /**
+     * Deletes the characters in the range {@code [from, to)}. Blocks completely within the range are unlinked
+     * without touching their cells, only the blocks at both ends of the range are shifted.
+     *
+     * @param from the index of the first character to be deleted.
+     * @param to   the index after the last character to be deleted.
+     * @return {@code true} if the range was deleted, {@code false} if it is invalid.
+     */
+    @Override
+    public boolean deleteRange(int from, int to) {
+        if (from < 0 || to > size || from > to) return false;
+        if (from == to) return true;
+
+        Block block = head;
+        int position = from;
+        while (position >= block.count) {
+            position -= block.count;
+            block = block.next;
+        }
+
+        Block trimmed = null;   // block at the end of the range, which lost only some of its cells
+        int remaining = to - from;
+        int removed = Math.min(remaining, block.count - position);
+        System.arraycopy(block.cells, position + removed, block.cells, position, block.count - (position + removed));
+        block.count -= removed;
+        remaining -= removed;
+
+        while (remaining > 0) {
+            Block next = block.next;
+            if (next.count <= remaining) {
+                remaining -= next.count;
+                unlink(next);
+            } else {
+                System.arraycopy(next.cells, remaining, next.cells, 0, next.count - remaining);
+                next.count -= remaining;
+                remaining = 0;
+                trimmed = next;
+            }
+        }
+        size -= to - from;
+
+        if (trimmed != null) rebalance(trimmed);
+
+        if (block.count == 0 && block != head) {
+            unlink(block);
+        } else {
+            rebalance(block);
+        }
+        return true;
+    }
+
+    @Override
+    public void clearBuffer() {
+        head = tail = new Block(blockSize);
+        size = 0;
+    }
+
+    /**
+     * Moves the upper half of a full block into a new block, which is linked after it.
+     *
+     * @return the new block.
+     */
+    private Block split(Block block) {
+        Block second = new Block(blockSize);
+        int half = block.count / 2;
+
+        second.count = block.count - half;
+        System.arraycopy(block.cells, half, second.cells, 0, second.count);
+        block.count = half;
+
+        linkAfter(block, second);
+        return second;
+    }
+
+    /**
+     * Restores the minimum fill of a block, which is not the last one and holds less than {@code blockSize / 2}
+     * cells. If the block and its successor fit into one block, they are merged. Otherwise, cells are moved from
+     * the successor, so that both blocks hold at least half of a block afterwards.
+     */
+    private void rebalance(Block block) {
+        if (block == tail || block.count >= blockSize / 2) return;
+
+        Block next = block.next;
+        if (block.count + next.count <= blockSize) {
+            merge(block);
+            return;
+        }
+
+        int moved = (next.count - block.count) / 2;
+        System.arraycopy(next.cells, 0, block.cells, block.count, moved);
+        System.arraycopy(next.cells, moved, next.cells, 0, next.count - moved);
+        block.count += moved;
+        next.count -= moved;
+    }
+
+    /**
+     * Appends the cells of the block's successor to the block and unlinks the successor.
+     */
+    private void merge(Block block) {
+        Block next = block.next;
+
+        System.arraycopy(next.cells, 0, block.cells, block.count, next.count);
+        block.count += next.count;
+        unlink(next);
+    }
+
+    private void linkAfter(Block block, Block newBlock) {
+        newBlock.previous = block;
+        newBlock.next = block.next;
+
+        if (block.next != null)
+            block.next.previous = newBlock;
+        else
+            tail = newBlock;
+
+        block.next = newBlock;
+    }
+
+    private void unlink(Block block) {
+        if (block.previous != null)
+            block.previous.next = block.next;
+        else
+            head = block.next;
+
+        if (block.next != null)
+            block.next.previous = block.previous;
+        else
+            tail = block.previous;
+    }
+
+    /**
+     * Renders the contents of the buffer into an array of strings, each representing a scanline.
+     * Blocks are traversed once and their cells are read sequentially.
+     *
+     * @param spacing the number of spaces (ASCII code 32) to insert between consecutive characters from the buffer
+     *                in the rendered output.
+     *                Precondition: ( spacing >= 0 )
+     * @return an array of strings, where each string represents a scanline of the combined buffered characters.
+     * Returns {@code null} if the buffer is empty.
+     */
+    @Override
+    public String[] renderScanlines(int spacing) {
+        if (size == 0) return null;
+
+        int height = font.getHeight();
+        int width = font.getWidth();
+        char[][] scanlines = new char[height][size * (width + spacing) - spacing];
+
+        int column = 0;
+        int last = scanlines[0].length - width;   // column of the last character, which is not followed by spacing
+        for (Block block = head; block != null; block = block.next) {
+            for (int j = 0; j < block.count; j++, column += width + spacing) {
+                byte cell = block.cells[j];
+                for (int i = 0; i < height; i++) {
+                    if (column < last)
+                        System.arraycopy(font.getSpacedGlyphRow(cell, i, spacing), 0, scanlines[i], column,
+                                width + spacing);
+                    else
+                        System.arraycopy(font.getGlyphRow(cell, i), 0, scanlines[i], column, width);
+                }
+            }
+        }
+
+        String[] result = new String[height];
+        for (int i = 0; i < height; i++) {
+            result[i] = new String(scanlines[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,186 @@
+package AB3;
+
+import AB2.Interfaces.PackedFont;
+import AB2.LruCache;
+
+import java.util.Arrays;
+
+/**
+ * The {@code WordGlyphCache} class stores rendered row fragments of words, so that frequent words can be copied
+ * into scanlines as a whole instead of character by character (see {@code PackedBrailleListBuffer.setWordCache()}).
+ * Only packed buffers render from the cache; {@code BrailleListBuffer} renders character by character.
+ *
+ * <p>A word is a run of Braille characters without a blank cell, identified by the font it was rendered with
+ * (compared by identity), the packed cells of its characters (see {@code AB2.BrailleCell}) and the spacing. Since
+ * the cells are already packed, a lookup only hashes and compares bytes. The cache is bounded by a maximum number of
+ * words and a maximum number of cached characters; when either bound is exceeded, the least recently used words
+ * are evicted (see {@code AB2.LruCache}). Words longer than the maximum word length are not cached. Hits, misses
+ * and evictions are counted.</p>
+ * <p>The cache is thread-safe.</p>
+ */
+public class WordGlyphCache {
+    private final int maxWordLength;
+    private final LruCache<Key, char[][]> entries;
+    private final Key probe = new Key(); // reused for lookups, so that hits do not allocate
+
+    /**
+     * Key of a cache entry: the font, the packed cells of a word and the spacing.
+     */
+    private static final class Key {
+        private PackedFont font;
+        private byte[] cells;
+        private int offset;
+        private int length;
+        private int spacing;
+        private int hash;
+
+        private Key set(PackedFont font, byte[] cells, int offset, int length, int spacing) {
+            this.font = font;
+            this.cells = cells;
+            this.offset = offset;
+            this.length = length;
+            this.spacing = spacing;
+
+            int h = System.identityHashCode(font) * 31 + spacing;
+            for (int i = offset; i < offset + length; i++) {
+                h = h * 31 + cells[i];
+            }
+            this.hash = h;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) return false;
+            Key key = (Key) other;
+            return hash == key.hash && font == key.font && spacing == key.spacing
+                    && Arrays.equals(cells, offset, offset + length, key.cells, key.offset, key.offset + key.length);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Constructs an empty {@code WordGlyphCache} object.
+     *
+     * @param maxWordLength the maximum number of characters of a cached word.
+     *                      <p>Precondition: ( maxWordLength > 0 )</p>
+     * @param maxEntries    the maximum number of cached words.
+     *                      <p>Precondition: ( maxEntries > 0 )</p>
+     * @param maxChars      the maximum number of characters of all cached row fragments.
+     *                      <p>Precondition: ( maxChars > 0 )</p>
+     */
+    public WordGlyphCache(int maxWordLength, int maxEntries, long maxChars) {
+        this.maxWordLength = maxWordLength;
+        entries = new LruCache<>(maxEntries, maxChars, (key, fragments) -> sizeOf(fragments));
+    }
+
+    /**
+     * Returns the maximum number of characters of a cached word.
+     *
+     * @return the maximum word length.
+     */
+    public int getMaxWordLength() {
+        return maxWordLength;
+    }
+
+    /**
+     * Retrieves the cached row fragments of a word and marks the entry as most recently used.
+     *
+     * <p>The returned fragments are shared by all callers and must not be modified.</p>
+     *
+     * @param font    the font the word is rendered with.
+     * @param cells   the packed cells, which contain the word.
+     * @param offset  the index of the word's first cell within {@code cells}.
+     * @param length  the number of characters of the word.
+     * @param spacing the spacing between the characters of the word.
+     * @return the row fragments (one per scanline), or {@code null} if the word is not cached.
+     */
+    public synchronized char[][] get(PackedFont font, byte[] cells, int offset, int length, int spacing) {
+        char[][] fragments = entries.get(probe.set(font, cells, offset, length, spacing));
+        probe.font = null;
+        probe.cells = null;
+        return fragments;
+    }
+
+    /**
+     * Stores the row fragments of a word, evicting least recently used entries as required by the bounds.
+     *
+     * @param font      the font the word was rendered with.
+     * @param cells     the packed cells, which contain the word. The word's cells are copied.
+     * @param offset    the index of the word's first cell within {@code cells}.
+     * @param length    the number of characters of the word.
+     *                  <p>Precondition: ( length <= getMaxWordLength() )</p>
+     * @param spacing   the spacing between the characters of the word.
+     * @param fragments the rendered rows of the word, which must not be modified afterwards.
+     *                  <p>Precondition: ( fragments != null )</p>
+     */
+    public synchronized void put(PackedFont font, byte[] cells, int offset, int length, int spacing,
+                                 char[][] fragments) {
+        byte[] word = Arrays.copyOfRange(cells, offset, offset + length);
+        entries.put(new Key().set(font, word, 0, length, spacing), fragments);
+    }
+
+    private static long sizeOf(char[][] fragments) {
+        long size = 0;
+        for (char[] fragment : fragments) {
+            size += fragment.length;
+        }
+        return size;
+    }
+
+    /**
+     * Removes all cached words, keeping the hit, miss and eviction counts.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of cached words.
+     *
+     * @return the number of entries.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of lookups that found an entry.
+     *
+     * @return the number of cache hits.
+     */
+    public synchronized long getHitCount() {
+        return entries.getHitCount();
+    }
+
+    /**
+     * Returns the number of lookups that did not find an entry.
+     *
+     * @return the number of cache misses.
+     */
+    public synchronized long getMissCount() {
+        return entries.getMissCount();
+    }
+
+    /**
+     * Returns the number of entries evicted to keep the cache within its bounds.
+     *
+     * @return the number of evictions.
+     */
+    public synchronized long getEvictionCount() {
+        return entries.getEvictionCount();
+    }
+
+    /**
+     * Returns the share of lookups that found an entry.
+     *
+     * @return the hit rate between 0 and 1, or 0 if no lookup has been performed.
+     */
+    public synchronized double getHitRate() {
+        return entries.getHitRate();
+    }
+}